@@ -0,0 +1,25 @@
+package com.classmanagementsystem.classmanagement.benchmark;
+
+import com.classmanagementsystem.classmanagement.entity.Classes;
+import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.entity.Teacher;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Classes classes(int studentCount) {
+        Set<Student> students = new HashSet<>();
+        for (long i = 1; i <= studentCount; i++) {
+            students.add(new Student(i, "Student " + i, "student" + i + "@example.com"));
+        }
+        return new Classes(1L, "Mathematics 101", new Teacher(1L, "Jane Smith", "Mathematics"), students);
+    }
+}
@@ -0,0 +1,52 @@
+package com.classmanagementsystem.classmanagement.benchmark;
+
+import com.classmanagementsystem.classmanagement.dto.ClassesDTO;
+import com.classmanagementsystem.classmanagement.mapper.ClassesMapper;
+import com.classmanagementsystem.classmanagement.mapper.StudentMapper;
+import com.classmanagementsystem.classmanagement.mapper.TeacherMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of a class with its teacher and enrolled students, as returned by {@code GET /api/classes/{id}}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassesSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int students;
+
+    private ObjectMapper objectMapper;
+    private ClassesDTO classesDTO;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper Spring Boot configures for the controllers
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        classesDTO = new ClassesMapper(new StudentMapper(), new TeacherMapper()).toDTO(BenchmarkData.classes(students));
+    }
+
+    @Benchmark
+    public byte[] serializeClassesDTO() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(classesDTO);
+    }
+}
@@ -0,0 +1,201 @@
+package com.classmanagementsystem.classmanagement.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.classmanagementsystem.classmanagement.aop.InstrumentationMode;
+import com.classmanagementsystem.classmanagement.aop.LoggingAspect;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.SourceLocation;
+import org.aspectj.runtime.internal.AroundClosure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of {@link LoggingAspect} around a trivial service call in each {@link InstrumentationMode}, compared
+ * with calling the method directly. Events are fully formatted but written to a discarding stream, so the
+ * numbers exclude disk I/O.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Call {
+
+        private final StubJoinPoint joinPoint = new StubJoinPoint(new Object[]{42L, "Mathematics 101"}, List.of(1L, 2L, 3L));
+    }
+
+    @State(Scope.Benchmark)
+    public static class Advice {
+
+        @Param({"TIMING", "SAMPLED", "FULL"})
+        private InstrumentationMode mode;
+
+        private LoggingAspect aspect;
+
+        @Setup
+        public void setUp() {
+            discardAspectOutput();
+            aspect = new LoggingAspect(mode, 100, 200, Duration.ofMillis(500));
+        }
+    }
+
+    @Benchmark
+    public Object direct(Call call) throws Throwable {
+        return call.joinPoint.proceed();
+    }
+
+    @Benchmark
+    public Object advised(Call call, Advice advice) throws Throwable {
+        return advice.aspect.logAround(call.joinPoint);
+    }
+
+    private static void discardAspectOutput() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        Logger aspectLogger = loggerContext.getLogger(LoggingAspect.class);
+        aspectLogger.detachAndStopAllAppenders();
+        aspectLogger.setAdditive(false);
+        aspectLogger.setLevel(Level.INFO);
+        aspectLogger.addAppender(appender);
+    }
+
+    /**
+     * Minimal join point standing in for a call to {@code ClassesService.getClassesById}.
+     */
+    private static final class StubJoinPoint implements ProceedingJoinPoint {
+
+        private final Object[] args;
+        private final Object result;
+        private final Signature signature = new StubSignature();
+
+        private StubJoinPoint(Object[] args, Object result) {
+            this.args = args;
+            this.result = result;
+        }
+
+        @Override
+        public Object proceed() {
+            return result;
+        }
+
+        @Override
+        public Object proceed(Object[] args) {
+            return result;
+        }
+
+        @Override
+        public void set$AroundClosure(AroundClosure arc) {
+        }
+
+        @Override
+        public Object[] getArgs() {
+            return args.clone();
+        }
+
+        @Override
+        public Signature getSignature() {
+            return signature;
+        }
+
+        @Override
+        public Object getThis() {
+            return null;
+        }
+
+        @Override
+        public Object getTarget() {
+            return null;
+        }
+
+        @Override
+        public SourceLocation getSourceLocation() {
+            return null;
+        }
+
+        @Override
+        public String getKind() {
+            return METHOD_EXECUTION;
+        }
+
+        @Override
+        public StaticPart getStaticPart() {
+            return null;
+        }
+
+        @Override
+        public String toShortString() {
+            return "execution(ClassesService.getClassesById(..))";
+        }
+
+        @Override
+        public String toLongString() {
+            return toShortString();
+        }
+    }
+
+    private static final class StubSignature implements Signature {
+
+        @Override
+        public String getName() {
+            return "getClassesById";
+        }
+
+        @Override
+        public String getDeclaringTypeName() {
+            return "com.classmanagementsystem.classmanagement.service.ClassesService";
+        }
+
+        @Override
+        public Class getDeclaringType() {
+            return Object.class;
+        }
+
+        @Override
+        public int getModifiers() {
+            return 1;
+        }
+
+        @Override
+        public String toShortString() {
+            return getName();
+        }
+
+        @Override
+        public String toLongString() {
+            return getDeclaringTypeName() + "." + getName();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.classmanagementsystem.classmanagement.benchmark;
+
+import com.classmanagementsystem.classmanagement.dto.ClassesDTO;
+import com.classmanagementsystem.classmanagement.dto.UserDTO;
+import com.classmanagementsystem.classmanagement.entity.Classes;
+import com.classmanagementsystem.classmanagement.entity.Role;
+import com.classmanagementsystem.classmanagement.entity.User;
+import com.classmanagementsystem.classmanagement.mapper.ClassesMapper;
+import com.classmanagementsystem.classmanagement.mapper.RoleMapper;
+import com.classmanagementsystem.classmanagement.mapper.StudentMapper;
+import com.classmanagementsystem.classmanagement.mapper.TeacherMapper;
+import com.classmanagementsystem.classmanagement.mapper.UserMapper;
+import com.classmanagementsystem.classmanagement.security.CustomUserDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO mapping on the read paths and the authority list built for every authenticated user.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ClassesState {
+
+        @Param({"10", "100", "1000"})
+        private int students;
+
+        private ClassesMapper classesMapper;
+        private Classes classes;
+        private ClassesDTO classesDTO;
+
+        @Setup
+        public void setUp() {
+            classesMapper = new ClassesMapper(new StudentMapper(), new TeacherMapper());
+            classes = BenchmarkData.classes(students);
+            classesDTO = classesMapper.toDTO(classes);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UserState {
+
+        private UserMapper userMapper;
+        private User user;
+        private CustomUserDetails userDetails;
+
+        @Setup
+        public void setUp() {
+            userMapper = new UserMapper(new RoleMapper());
+            user = new User(1L, "Admin User", "admin", "admin@example.com", "{bcrypt}hash",
+                    new HashSet<>(Set.of(new Role(1L, "ROLE_ADMIN"), new Role(2L, "ROLE_USER"))));
+            userDetails = new CustomUserDetails(user);
+        }
+    }
+
+    @Benchmark
+    public ClassesDTO classesToDTO(ClassesState state) {
+        return state.classesMapper.toDTO(state.classes);
+    }
+
+    @Benchmark
+    public Classes classesToEntity(ClassesState state) {
+        return state.classesMapper.toEntity(state.classesDTO);
+    }
+
+    @Benchmark
+    public UserDTO userToDTO(UserState state) {
+        return state.userMapper.toDTO(state.user);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> userDetailsAuthorities(UserState state) {
+        return state.userDetails.getAuthorities();
+    }
+}
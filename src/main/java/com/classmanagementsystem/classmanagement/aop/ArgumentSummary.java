@@ -0,0 +1,66 @@
+package com.classmanagementsystem.classmanagement.aop;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Log argument that renders a value only when the log line is actually formatted, and then only as a
+ * bounded summary: collections, maps and arrays show their type and size instead of their elements, and
+ * any other value is cut to a maximum number of characters.
+ */
+final class ArgumentSummary {
+
+    private final Object value;
+    private final int maxLength;
+    private final boolean argumentList;
+
+    private ArgumentSummary(Object value, int maxLength, boolean argumentList) {
+        this.value = value;
+        this.maxLength = maxLength;
+        this.argumentList = argumentList;
+    }
+
+    static ArgumentSummary of(Object value, int maxLength) {
+        return new ArgumentSummary(value, maxLength, false);
+    }
+
+    /**
+     * Summarizes a method's arguments as {@code [a, b, ...]}, applying the summary rules to each one.
+     */
+    static ArgumentSummary ofArguments(Object[] arguments, int maxLength) {
+        return new ArgumentSummary(arguments, maxLength, true);
+    }
+
+    @Override
+    public String toString() {
+        if (argumentList) {
+            StringBuilder builder = new StringBuilder("[");
+            Object[] arguments = (Object[]) value;
+            for (int i = 0; i < arguments.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(of(arguments[i], maxLength));
+            }
+            return builder.append(']').toString();
+        }
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        String rendered = String.valueOf(value);
+        if (rendered.length() <= maxLength) {
+            return rendered;
+        }
+        return rendered.substring(0, maxLength) + "...(" + (rendered.length() - maxLength) + " more chars)";
+    }
+}
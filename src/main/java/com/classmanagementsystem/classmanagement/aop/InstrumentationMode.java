@@ -0,0 +1,25 @@
+package com.classmanagementsystem.classmanagement.aop;
+
+/**
+ * How much {@link LoggingAspect} writes for each intercepted service and controller call.
+ */
+public enum InstrumentationMode {
+
+    /**
+     * The elapsed time only, at INFO for calls slower than {@code classmanagement.logging.slow-threshold} and at
+     * DEBUG for the others; arguments and results are never rendered.
+     */
+    TIMING,
+
+    /**
+     * Entry and exit lines with length-capped argument and result summaries, for one in every
+     * {@code classmanagement.logging.sample-rate} calls. Other calls are not logged.
+     */
+    SAMPLED,
+
+    /**
+     * Entry and exit lines with the full {@code toString} of every argument and result, for every call.
+     * Expensive; intended for the {@code debug} profile.
+     */
+    FULL
+}
@@ -6,14 +6,34 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 @Aspect
 @Component
 public class LoggingAspect {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
+    private final InstrumentationMode mode;
+    private final int sampleRate;
+    private final int maxArgumentLength;
+    private final long slowThresholdNanos;
+
+    public LoggingAspect(@Value("${classmanagement.logging.mode:TIMING}") InstrumentationMode mode,
+                         @Value("${classmanagement.logging.sample-rate:100}") int sampleRate,
+                         @Value("${classmanagement.logging.max-argument-length:200}") int maxArgumentLength,
+                         @Value("${classmanagement.logging.slow-threshold:500ms}") Duration slowThreshold) {
+        this.mode = mode;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.maxArgumentLength = maxArgumentLength;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
     /**
      * Pointcut that matches all repositories, services and web REST controllers.
      */
@@ -23,7 +43,7 @@ public class LoggingAspect {
     }
 
     /**
-     * Advice that logs when a method is entered and exited.
+     * Advice that logs method calls according to the configured {@link InstrumentationMode}.
      *
      * @param joinPoint join point for advice
      * @return result
@@ -31,29 +51,64 @@ public class LoggingAspect {
      */
     @Around("applicationPackagePointcut()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
         try {
-            log.info("Entering: {}.{}() with argument[s] = {}",
+            if (!log.isInfoEnabled()) {
+                return joinPoint.proceed();
+            }
+            return switch (mode) {
+                case TIMING -> logTiming(joinPoint);
+                case SAMPLED -> ThreadLocalRandom.current().nextInt(sampleRate) == 0
+                        ? logCall(joinPoint, true)
+                        : joinPoint.proceed();
+                case FULL -> logCall(joinPoint, false);
+            };
+        } catch (IllegalArgumentException e) {
+            Object[] args = joinPoint.getArgs();
+            log.error("Illegal argument: {} in {}.{}()",
+                    args.length == 0 ? "none" : mode == InstrumentationMode.FULL
+                            ? args[0]
+                            : ArgumentSummary.of(args[0], maxArgumentLength),
+                    joinPoint.getSignature().getDeclaringTypeName(),
+                    joinPoint.getSignature().getName());
+            throw e;
+        }
+    }
+
+    /**
+     * Logs calls slower than {@code classmanagement.logging.slow-threshold} at INFO, and the others only at DEBUG.
+     */
+    private Object logTiming(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object result = joinPoint.proceed();
+        long elapsed = System.nanoTime() - start;
+        if (elapsed >= slowThresholdNanos) {
+            log.info("Slow call: {}.{}() in {}ms",
+                    joinPoint.getSignature().getDeclaringTypeName(),
+                    joinPoint.getSignature().getName(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } else if (log.isDebugEnabled()) {
+            log.debug("Executed: {}.{}() in {}us",
                     joinPoint.getSignature().getDeclaringTypeName(),
                     joinPoint.getSignature().getName(),
-                    joinPoint.getArgs());
+                    TimeUnit.NANOSECONDS.toMicros(elapsed));
+        }
+        return result;
+    }
 
-            Object result = joinPoint.proceed();
+    private Object logCall(ProceedingJoinPoint joinPoint, boolean summarize) throws Throwable {
+        long start = System.nanoTime();
+        log.info("Entering: {}.{}() with argument[s] = {}",
+                joinPoint.getSignature().getDeclaringTypeName(),
+                joinPoint.getSignature().getName(),
+                summarize ? ArgumentSummary.ofArguments(joinPoint.getArgs(), maxArgumentLength) : joinPoint.getArgs());
 
-            long end = System.currentTimeMillis();
+        Object result = joinPoint.proceed();
 
-            log.info("Exiting: {}.{}() with result = {}. Executed in {}ms",
+        log.info("Exiting: {}.{}() with result = {}. Executed in {}ms",
                 joinPoint.getSignature().getDeclaringTypeName(),
                 joinPoint.getSignature().getName(),
-                result,
-                (end - start));
-            return result;
-        } catch (IllegalArgumentException e) {
-            log.error("Illegal argument: {} in {}.{}()",
-                joinPoint.getArgs()[0],
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName());
-            throw e;
-        }
+                summarize ? ArgumentSummary.of(result, maxArgumentLength) : result,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
     }
 }
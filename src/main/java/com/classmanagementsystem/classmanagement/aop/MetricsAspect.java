@@ -0,0 +1,66 @@
+package com.classmanagementsystem.classmanagement.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records a latency timer for every service and controller call, published through actuator as
+ * {@value #METRIC_NAME} with p50, p99 and p99.9 and tagged by class, method and outcome.
+ * <p>
+ * Tags are limited to values fixed by the code (class and method names, the outcome and, for failures, the
+ * exception type), and {@link MetricsConfig} caps the number of distinct methods so a programming error
+ * cannot explode the number of time series.
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    public static final String METRIC_NAME = "classmanagement.method";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    // Success timers are resolved once per method; the failure path is rare and looks timers up by tags
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("com.classmanagementsystem.classmanagement.aop.LoggingAspect.applicationPackagePointcut()")
+    public Object recordLatency(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            sample.stop(timer(method, OUTCOME_ERROR, e.getClass().getSimpleName()));
+            throw e;
+        }
+        sample.stop(successTimers.computeIfAbsent(method, m -> timer(m, OUTCOME_SUCCESS, NO_EXCEPTION)));
+        return result;
+    }
+
+    private Timer timer(Method method, String outcome, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .description("Latency of service and controller methods")
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.classmanagementsystem.classmanagement.aop;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Stops recording {@link MetricsAspect#METRIC_NAME} for new methods once
+     * {@code classmanagement.metrics.max-methods} distinct method tags exist.
+     */
+    @Bean
+    public MeterFilter methodMetricsCardinalityLimit(@Value("${classmanagement.metrics.max-methods:500}") int maxMethods) {
+        return MeterFilter.maximumAllowableTags(MetricsAspect.METRIC_NAME, "method", maxMethods, MeterFilter.deny());
+    }
+}
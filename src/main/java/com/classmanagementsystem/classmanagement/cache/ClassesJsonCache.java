@@ -0,0 +1,93 @@
+package com.classmanagementsystem.classmanagement.cache;
+
+import com.classmanagementsystem.classmanagement.dto.ClassesDTO;
+import com.classmanagementsystem.classmanagement.util.TransactionCallbacks;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+/**
+ * The encoded JSON of {@code GET /api/classes/{id}} per class, so a hot class is mapped and serialized once rather
+ * than on every read.
+ * <p>
+ * Each entry remembers the entity tag it was encoded for (see {@code ClassesService#getClassesETag}) and is only
+ * served for a request with the same tag. Any change to the class, its roster, its teacher or one of its students
+ * changes the tag, so a stale entry is never served, even when the change was made by another instance or raced
+ * with the encoding. {@link #evict(Long)} additionally drops entries as soon as a class is written, so their memory
+ * is reclaimed without waiting for eviction. The cache is bounded by the total size of the encoded bytes.
+ */
+@Component
+public class ClassesJsonCache {
+
+    public static final String CACHE_NAME = "classes.json";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Entry> cache;
+
+    @Autowired
+    public ClassesJsonCache(ObjectMapper objectMapper,
+                            @Value("${classmanagement.classes.json-cache.max-size:64MB}") DataSize maxSize,
+                            MeterRegistry meterRegistry) {
+        this(objectMapper, maxSize.toBytes());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public ClassesJsonCache(ObjectMapper objectMapper, long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long classId, Entry entry) -> entry.json().length)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param classId The id of the class.
+     * @param eTag    The current entity tag of the class.
+     * @param loader  Loads the class when no bytes were cached for this tag.
+     * @return The class encoded as JSON; callers must not modify the array.
+     */
+    public byte[] get(Long classId, String eTag, Supplier<ClassesDTO> loader) {
+        Entry entry = cache.getIfPresent(classId);
+        if (entry != null && entry.eTag().equals(eTag)) {
+            return entry.json();
+        }
+        byte[] json = encode(loader.get());
+        cache.put(classId, new Entry(eTag, json));
+        return json;
+    }
+
+    /**
+     * Drops the cached bytes of a class once the current transaction commits.
+     * @param classId The id of the class that was written.
+     */
+    public void evict(Long classId) {
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(classId));
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private byte[] encode(ClassesDTO classesDTO) {
+        try {
+            return objectMapper.writeValueAsBytes(classesDTO);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Entry(String eTag, byte[] json) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.classmanagementsystem.classmanagement.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Regions of the Hibernate second-level cache, held in process by Caffeine through JCache.
+ * <p>
+ * Student, teacher and role entities are cached with the read-write strategy (see the {@code @Cache} annotations on
+ * the entities), and role lookups by name through the query cache. Every region is created here, bounded by
+ * {@code classmanagement.hibernate-cache.*.max-size}, and {@code hibernate.javax.cache.missing_cache_strategy=fail}
+ * makes Hibernate reject any region that was not, so nothing is cached without a bound. Each region reports
+ * {@code cache.gets}, {@code cache.puts} and {@code cache.evictions} tagged with its name; with
+ * {@code hibernate.generate_statistics} on, Hibernate adds {@code hibernate.second.level.cache.*} and
+ * {@code hibernate.cache.query.*}.
+ * <p>
+ * Writes made outside Hibernate bypass the cache, so the cached tables must only be changed through JPA.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String STUDENT_REGION = "student";
+    public static final String TEACHER_REGION = "teacher";
+    public static final String ROLE_REGION = "role";
+    // Hibernate's default regions for cached query results and for the last update time of each table
+    static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${classmanagement.hibernate-cache.student.max-size:100000}") long studentMaxSize,
+            @Value("${classmanagement.hibernate-cache.teacher.max-size:10000}") long teacherMaxSize,
+            @Value("${classmanagement.hibernate-cache.role.max-size:100}") long roleMaxSize,
+            @Value("${classmanagement.hibernate-cache.query.max-size:1000}") long queryMaxSize,
+            MeterRegistry meterRegistry) {
+        // A manager of its own per application context rather than the provider's shared default
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("classmanagement-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        createRegion(cacheManager, STUDENT_REGION, OptionalLong.of(studentMaxSize), meterRegistry);
+        createRegion(cacheManager, TEACHER_REGION, OptionalLong.of(teacherMaxSize), meterRegistry);
+        createRegion(cacheManager, ROLE_REGION, OptionalLong.of(roleMaxSize), meterRegistry);
+        createRegion(cacheManager, QUERY_RESULTS_REGION, OptionalLong.of(queryMaxSize), meterRegistry);
+        // One entry per table; evicting one would let cached query results outlive a change to their table
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, OptionalLong.empty(), meterRegistry);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, OptionalLong maximumSize,
+                                     MeterRegistry meterRegistry) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        configuration.setStatisticsEnabled(true);
+        Cache<Object, Object> cache = cacheManager.createCache(name, configuration);
+        JCacheMetrics.monitor(meterRegistry, cache);
+    }
+}
@@ -0,0 +1,165 @@
+package com.classmanagementsystem.classmanagement.concurrency;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Micro-batching of point lookups: concurrent loads of different keys of the same kind are collected and resolved
+ * by one call that loads them all, e.g. one {@code findAllById} instead of one {@code findById} per key.
+ * <p>
+ * The first caller of a batch leads it. If no other load of its kind is in progress it runs the load at once, so a
+ * lone lookup never waits. Otherwise it waits up to {@code classmanagement.batch-loader.window} for others to add
+ * their keys, or until {@code classmanagement.batch-loader.max-batch-size} keys are collected. It then runs the load
+ * on its own thread and completes every caller of the batch with its value, or with the exception the load threw.
+ * Callers arriving after that start the next batch, so under load many point queries become one query.
+ * <p>
+ * Each kind has its own lock, so lookups of students and teachers never contend with each other. It is a
+ * {@link ReentrantLock} rather than {@code synchronized}, so waiting virtual threads do not pin their carrier.
+ * {@code classmanagement.batch-loader.batch-size} records the number of keys per batch, tagged {@code name}.
+ */
+@Component
+public class BatchLoader {
+
+    private static final String BATCH_SIZE_METRIC = "classmanagement.batch-loader.batch-size";
+
+    private final Map<String, Kind> kinds = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final MeterRegistry meterRegistry;
+
+    public BatchLoader(@Value("${classmanagement.batch-loader.window:1ms}") Duration window,
+                       @Value("${classmanagement.batch-loader.max-batch-size:100}") int maxBatchSize,
+                       MeterRegistry meterRegistry) {
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param name    The kind of load, e.g. {@code student}; only keys of the same kind are batched together.
+     * @param key     The key to load.
+     * @param loadAll Loads the keys of a batch, returning a value for each key found; keys it leaves out load as
+     *                {@code null}. Every caller of a kind must pass an equivalent function, as only the leader's runs.
+     * @return The value loaded for the key, or {@code null} if {@code loadAll} returned none.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> V load(String name, K key, Function<List<K>, Map<K, V>> loadAll) {
+        Kind kind = kinds.computeIfAbsent(name, this::newKind);
+        Batch<K, V> batch;
+        CompletableFuture<V> future;
+        boolean leader;
+        boolean alone;
+        kind.lock.lock();
+        try {
+            kind.active++;
+            alone = kind.active == 1;
+            batch = (Batch<K, V>) kind.pending;
+            leader = batch == null;
+            if (leader) {
+                batch = new Batch<>(kind.lock.newCondition());
+                kind.pending = batch;
+            }
+            future = batch.futures.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (batch.futures.size() >= maxBatchSize) {
+                // Full: close it so later callers start a new batch, and wake the leader early
+                kind.pending = null;
+                batch.full.signal();
+            }
+        } finally {
+            kind.lock.unlock();
+        }
+        try {
+            if (leader) {
+                awaitWindow(kind, batch, alone);
+                dispatch(kind, batch, loadAll);
+            }
+            return Futures.join(future);
+        } finally {
+            kind.lock.lock();
+            try {
+                kind.active--;
+            } finally {
+                kind.lock.unlock();
+            }
+        }
+    }
+
+    private void awaitWindow(Kind kind, Batch<?, ?> batch, boolean alone) {
+        kind.lock.lock();
+        try {
+            // Nobody else is loading this kind, so nobody is likely to join: waiting would only add latency
+            long remaining = alone ? 0 : windowNanos;
+            while (remaining > 0 && kind.pending == batch) {
+                remaining = batch.full.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            // Dispatch what was collected rather than leaving the other callers waiting
+            Thread.currentThread().interrupt();
+        } finally {
+            if (kind.pending == batch) {
+                kind.pending = null;
+            }
+            kind.lock.unlock();
+        }
+    }
+
+    private <K, V> void dispatch(Kind kind, Batch<K, V> batch, Function<List<K>, Map<K, V>> loadAll) {
+        List<K> keys = new ArrayList<>(batch.futures.keySet());
+        kind.batchSize.record(keys.size());
+        try {
+            Map<K, V> values = loadAll.apply(keys);
+            batch.futures.forEach((key, future) -> future.complete(values.get(key)));
+        } catch (RuntimeException | Error e) {
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private Kind newKind(String name) {
+        return new Kind(DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Keys resolved by one batched load")
+                .tag("name", name)
+                .register(meterRegistry));
+    }
+
+    /**
+     * The state of one kind of load. Everything but the summary is guarded by {@code lock}.
+     */
+    private static final class Kind {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final DistributionSummary batchSize;
+        private Batch<?, ?> pending;
+        private int active;
+
+        private Kind(DistributionSummary batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    /**
+     * Keys collected so far, each with the future its callers wait on. Only modified while holding the lock of its
+     * kind and before the batch is closed.
+     */
+    private static final class Batch<K, V> {
+
+        private final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        private final Condition full;
+
+        private Batch(Condition full) {
+            this.full = full;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.classmanagementsystem.classmanagement.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * Waits for a load run by another caller and returns its result, or rethrows what the load threw, e.g.
+     * {@code ResourceNotFoundException}, rather than the {@link CompletionException} wrapping it.
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.classmanagementsystem.classmanagement.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight loading: concurrent calls for the same name and key share one load instead of each running it.
+ * <p>
+ * The first caller runs the load on its own thread; callers arriving while it is in flight wait for it and receive
+ * the same result, or the same exception. Nothing is kept once the load completes, so this is not a cache: a call
+ * made after a load finished starts a new one. A call that arrives just after a write may still join a load that
+ * started before it and see the earlier state, which is the same as if it had arrived a moment sooner.
+ * <p>
+ * Shared results must be treated as read-only by every caller. {@code classmanagement.coalescer.calls} counts calls
+ * per {@code name}, tagged {@code result} = {@code loaded} for calls that ran the load and {@code coalesced} for calls
+ * that joined one; {@code classmanagement.coalescer.in-flight} is the number of loads currently running.
+ */
+@Component
+public class RequestCoalescer {
+
+    private static final String CALLS_METRIC = "classmanagement.coalescer.calls";
+
+    private final Map<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("classmanagement.coalescer.in-flight", inFlight, Map::size)
+                .description("Loads currently shared by concurrent callers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param name   The kind of load, e.g. {@code classes}; used as the metric tag and to keep keys of different kinds apart.
+     * @param key    Identifies the load within its kind, e.g. the id.
+     * @param loader Runs the load; called at most once for all callers that overlap with it.
+     * @return The result of the load, shared with every caller that overlapped with it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        Flight flight = new Flight(name, key);
+        CompletableFuture<Object> ours = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flight, ours);
+        Counters counter = counters.computeIfAbsent(name, this::counters);
+        if (existing != null) {
+            counter.coalesced.increment();
+            return (T) Futures.join(existing);
+        }
+        counter.loaded.increment();
+        try {
+            T result = loader.get();
+            ours.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            ours.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flight, ours);
+        }
+    }
+
+    private Counters counters(String name) {
+        return new Counters(counter(name, "loaded"), counter(name, "coalesced"));
+    }
+
+    private Counter counter(String name, String result) {
+        return Counter.builder(CALLS_METRIC)
+                .description("Calls to a coalesced load, by whether they ran it or shared one in flight")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Flight(String name, Object key) {
+    }
+
+    private record Counters(Counter loaded, Counter coalesced) {
+    }
+}
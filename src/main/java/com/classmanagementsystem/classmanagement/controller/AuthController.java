@@ -1,7 +1,10 @@
 package com.classmanagementsystem.classmanagement.controller;
 
 import com.classmanagementsystem.classmanagement.dto.LoginDto;
+import com.classmanagementsystem.classmanagement.dto.RefreshTokenRequestDTO;
+import com.classmanagementsystem.classmanagement.dto.TokenResponseDTO;
 import com.classmanagementsystem.classmanagement.service.AuthService;
+import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -12,7 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 // Removed: import io.swagger.v3.oas.annotations.parameters.RequestBody; // This caused ambiguity
 
-@Tag(name = "Authentication", description = "APIs for user authentication (login)")
+@Tag(name = "Authentication", description = "APIs for user authentication (login and token refresh)")
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -25,16 +28,31 @@ public class AuthController {
 
     @Operation(
             summary = "User login",
-            description = "Authenticates a user with username/email and password. Returns a success message upon successful login."
+            description = "Authenticates a user with username/email and password. Returns a signed access token to send as "
+                    + "'Authorization: Bearer <token>' and a refresh token for obtaining new access tokens."
     )
     @ApiResponse(responseCode = "200", description = "User logged in successfully")
     @ApiResponse(responseCode = "400", description = "Invalid input data")
     @ApiResponse(responseCode = "401", description = "Unauthorized: Invalid credentials")
     @PostMapping(value = {"/login", "/signin"})
-    public ResponseEntity<String> login(
+    public ResponseEntity<TokenResponseDTO> login(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "User login credentials", required = true) // Used fully qualified name
             @org.springframework.web.bind.annotation.RequestBody LoginDto loginDto) {
-        String response = authService.login(loginDto);
+        TokenResponseDTO response = authService.login(loginDto);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
+
+    @Operation(
+            summary = "Refresh tokens",
+            description = "Exchanges a valid refresh token for a new access token and refresh token."
+    )
+    @ApiResponse(responseCode = "200", description = "Tokens refreshed successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid input data")
+    @ApiResponse(responseCode = "401", description = "Unauthorized: Invalid or expired refresh token")
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDTO> refresh(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Refresh token issued at login", required = true)
+            @Valid @org.springframework.web.bind.annotation.RequestBody RefreshTokenRequestDTO request) {
+        return new ResponseEntity<>(authService.refresh(request.getRefreshToken()), HttpStatus.OK);
+    }
 }
@@ -1,17 +1,34 @@
 package com.classmanagementsystem.classmanagement.controller;
 
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.BulkEnrollmentRequestDTO;
+import com.classmanagementsystem.classmanagement.dto.ClassSuggestionDTO;
 import com.classmanagementsystem.classmanagement.dto.ClassesDTO;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentMembershipDTO;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentResultDTO;
 import com.classmanagementsystem.classmanagement.service.ClassesService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.parameters.RequestBody; // Corrected import
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Tag(name = "Classes Management", description = "APIs for managing class records and student enrollment")
@@ -19,10 +36,14 @@ import java.util.List;
 @RequestMapping("/api/classes")
 public class ClassesController {
 
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final ClassesService classesService;
+    private final ObjectMapper objectMapper;
 
-    public ClassesController(ClassesService classesService) {
+    public ClassesController(ClassesService classesService, ObjectMapper objectMapper) {
         this.classesService = classesService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(
@@ -41,30 +62,91 @@ public class ClassesController {
     }
 
     @Operation(
-            summary = "Get all classes",
-            description = "Retrieves a list of all class records."
+            summary = "Get a page of classes",
+            description = "Retrieves a page of class records ordered by ID. Pass the returned nextCursor as 'after' to fetch the next page."
     )
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of classes")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved page of classes")
     @ApiResponse(responseCode = "401", description = "Unauthorized")
     @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
     @GetMapping
-    public ResponseEntity<List<ClassesDTO>> getAllClasses() {
-        return ResponseEntity.ok(classesService.getAllClasses());
+    public ResponseEntity<CursorPage<ClassesDTO>> getAllClasses(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of classes to return (default 50, max 500)")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(classesService.getClassesPage(after, limit));
+    }
+
+    @Operation(
+            summary = "Get classes by a list of IDs",
+            description = "Retrieves up to 500 classes in one request and one query, e.g. ?ids=1,2,3. Items are returned in the "
+                    + "order requested, each ID at most once; IDs that do not exist are listed in missingIds instead of failing the request."
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the requested classes")
+    @ApiResponse(responseCode = "400", description = "No IDs, an empty ID or more than 500 IDs requested")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchGetResult<ClassesDTO>> getClassesByIds(
+            @Parameter(description = "Comma-separated IDs of the classes to retrieve", required = true)
+            @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(classesService.getClassesByIds(ids));
+    }
+
+    @Operation(
+            summary = "Export all classes as NDJSON",
+            description = "Streams every class with its teacher and students as newline-delimited JSON, one class per line. "
+                    + "The response is written while the classes are read, so it can be consumed incrementally."
+    )
+    @ApiResponse(responseCode = "200", description = "Classes streamed successfully")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping(value = "/export", produces = NDJSON_MEDIA_TYPE)
+    public void exportClasses(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ObjectWriter writer = objectMapper.writerFor(ClassesDTO.class);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            // One document per line: suppress Jackson's default space between root values and end each line ourselves.
+            generator.setRootValueSeparator(null);
+            classesService.exportClasses(classesDTO -> {
+                try {
+                    writer.writeValue(generator, classesDTO);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
     }
 
     @Operation(
             summary = "Get class by ID",
-            description = "Retrieves a single class record by its ID."
+            description = "Retrieves a single class record by its ID. The response carries a strong ETag derived from the "
+                    + "record's version; a request whose If-None-Match matches it gets 304 without the record being loaded."
     )
-    @ApiResponse(responseCode = "200", description = "Class found successfully")
+    @ApiResponse(responseCode = "200", description = "Class found successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ClassesDTO.class)))
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match")
     @ApiResponse(responseCode = "404", description = "Class not found")
     @ApiResponse(responseCode = "401", description = "Unauthorized")
     @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
     @GetMapping("/{id}")
-    public ResponseEntity<ClassesDTO> getClassesById(
+    public ResponseEntity<byte[]> getClassesById(
             @Parameter(description = "ID of the class to retrieve", required = true)
-            @PathVariable Long id) {
-        return ResponseEntity.ok(classesService.getClassesById(id));
+            @PathVariable Long id,
+            WebRequest request) {
+        // The tag is read before the body, so a concurrent update can only make the body newer than its tag,
+        // which costs the client one extra full response but never leaves it, or the JSON cache, with a stale body.
+        String eTag = classesService.getClassesETag(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        // Already encoded, so the bytes are written as they are instead of going through Jackson again
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(classesService.getClassesJson(id, eTag));
     }
 
     @Operation(
@@ -103,9 +185,10 @@ public class ClassesController {
 
     @Operation(
             summary = "Enroll a student in a class",
-            description = "Enrolls a student into a specific class. Both class and student must exist."
+            description = "Enrolls a student into a specific class and returns the class with its roster. Both class and "
+                    + "student must exist. Enrolling a student who is already in the class is not an error."
     )
-    @ApiResponse(responseCode = "200", description = "Student enrolled successfully")
+    @ApiResponse(responseCode = "200", description = "Student enrolled successfully, or was already enrolled")
     @ApiResponse(responseCode = "404", description = "Class or Student not found")
     @ApiResponse(responseCode = "401", description = "Unauthorized")
     @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
@@ -117,4 +200,106 @@ public class ClassesController {
             @PathVariable Long studentId) {
         return ResponseEntity.ok(classesService.enrollStudentInClasses(classesId, studentId));
     }
+
+    @Operation(
+            summary = "Remove a student from a class",
+            description = "Removes a student's enrollment from a specific class. Removing a student who is not enrolled is not an error."
+    )
+    @ApiResponse(responseCode = "204", description = "Student removed from the class")
+    @ApiResponse(responseCode = "404", description = "Class or Student not found")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @DeleteMapping("/classes/{classesId}/students/{studentId}")
+    public ResponseEntity<Void> unenrollStudentFromClasses(
+            @Parameter(description = "ID of the class to remove the student from", required = true)
+            @PathVariable Long classesId,
+            @Parameter(description = "ID of the student to remove", required = true)
+            @PathVariable Long studentId) {
+        classesService.unenrollStudentFromClasses(classesId, studentId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(
+            summary = "Check whether a student is enrolled in a class",
+            description = "Answers from the in-memory enrollment index without querying the database. "
+                    + "Unknown class or student ids are reported as not enrolled."
+    )
+    @ApiResponse(responseCode = "200", description = "Membership returned successfully")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping("/classes/{classesId}/students/{studentId}")
+    public ResponseEntity<EnrollmentMembershipDTO> getEnrollment(
+            @Parameter(description = "ID of the class", required = true)
+            @PathVariable Long classesId,
+            @Parameter(description = "ID of the student", required = true)
+            @PathVariable Long studentId) {
+        return ResponseEntity.ok(classesService.getEnrollment(classesId, studentId));
+    }
+
+    @Operation(
+            summary = "Suggest class names",
+            description = "Completes a class name as it is typed: returns the classes whose name starts with the prefix, "
+                    + "ignoring case and accents, in name order. Served from an in-memory index without querying the database."
+    )
+    @ApiResponse(responseCode = "200", description = "Completions returned successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid limit")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ClassSuggestionDTO>> suggestClasses(
+            @Parameter(description = "Start of the class name; empty lists classes from the start of the alphabet")
+            @RequestParam(defaultValue = "") String prefix,
+            @Parameter(description = "Maximum number of completions (default 10, max 50)")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(classesService.suggestClasses(prefix, limit));
+    }
+
+    @Operation(
+            summary = "Get the ids of the students enrolled in a class",
+            description = "Returns the roster as ascending student ids from the in-memory enrollment index. "
+                    + "An unknown class has an empty roster."
+    )
+    @ApiResponse(responseCode = "200", description = "Student ids returned successfully")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping("/{id}/student-ids")
+    public ResponseEntity<List<Long>> getEnrolledStudentIds(
+            @Parameter(description = "ID of the class", required = true)
+            @PathVariable Long id) {
+        return ResponseEntity.ok(classesService.getEnrolledStudentIds(id));
+    }
+
+    @Operation(
+            summary = "Get the students shared by two classes",
+            description = "Returns the ascending ids of the students enrolled in both classes, computed as a bitmap "
+                    + "intersection in the in-memory enrollment index."
+    )
+    @ApiResponse(responseCode = "200", description = "Shared student ids returned successfully")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping("/{id}/shared-students/{otherId}")
+    public ResponseEntity<List<Long>> getSharedStudentIds(
+            @Parameter(description = "ID of the first class", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "ID of the second class", required = true)
+            @PathVariable Long otherId) {
+        return ResponseEntity.ok(classesService.getSharedStudentIds(id, otherId));
+    }
+
+    @Operation(
+            summary = "Enroll students in classes in bulk",
+            description = "Enrolls many (classId, studentId) pairs in one request. Existence of classes and students is checked "
+                    + "with set-based lookups and new enrollments are written in JDBC batches. "
+                    + "Returns one result per submitted pair, in request order."
+    )
+    @ApiResponse(responseCode = "200", description = "Enrollment results for every submitted pair")
+    @ApiResponse(responseCode = "400", description = "Invalid input data")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @PostMapping("/enrollments")
+    public ResponseEntity<List<EnrollmentResultDTO>> enrollStudentsInClasses(
+            @RequestBody(description = "Class/student pairs to enroll", required = true)
+            @Valid @org.springframework.web.bind.annotation.RequestBody BulkEnrollmentRequestDTO request) {
+        return ResponseEntity.ok(classesService.enrollStudentsInClasses(request.getEnrollments()));
+    }
 }
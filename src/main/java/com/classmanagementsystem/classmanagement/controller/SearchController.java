@@ -0,0 +1,49 @@
+package com.classmanagementsystem.classmanagement.controller;
+
+import com.classmanagementsystem.classmanagement.dto.SearchEntityType;
+import com.classmanagementsystem.classmanagement.dto.SearchResultDTO;
+import com.classmanagementsystem.classmanagement.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Search", description = "Typeahead search across students and teachers")
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @Operation(
+            summary = "Search students and teachers",
+            description = "Finds students by name or email and teachers by name or subject. Every word of the query must match: "
+                    + "words of three or more characters anywhere in the text, shorter words at the start of a word. "
+                    + "Case and accents are ignored. Results are ranked, name matches first, and served from an in-memory index."
+    )
+    @ApiResponse(responseCode = "200", description = "Matching records returned, best match first")
+    @ApiResponse(responseCode = "400", description = "Blank query or invalid limit")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping
+    public ResponseEntity<List<SearchResultDTO>> search(
+            @Parameter(description = "Text to search for", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (default 10, max 50)")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Only return STUDENT or TEACHER records")
+            @RequestParam(required = false) SearchEntityType type) {
+        return ResponseEntity.ok(searchService.search(q, limit, type));
+    }
+}
@@ -1,17 +1,31 @@
 package com.classmanagementsystem.classmanagement.controller;
 
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.ClassSummaryDTO;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.StudentDTO;
+import com.classmanagementsystem.classmanagement.dto.StudentImportResultDTO;
+import com.classmanagementsystem.classmanagement.exception.BadRequestException;
+import com.classmanagementsystem.classmanagement.service.StudentImportService;
 import com.classmanagementsystem.classmanagement.service.StudentService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.parameters.RequestBody; // Corrected import
 import io.swagger.v3.oas.annotations.Parameter;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Tag(name = "Student Management", description = "APIs for managing student records")
@@ -20,9 +34,11 @@ import java.util.List;
 public class StudentController {
 
     private final StudentService studentService;
+    private final StudentImportService studentImportService;
 
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, StudentImportService studentImportService) {
         this.studentService = studentService;
+        this.studentImportService = studentImportService;
     }
 
     @Operation(
@@ -41,30 +57,88 @@ public class StudentController {
     }
 
     @Operation(
-            summary = "Get all students",
-            description = "Retrieves a list of all student records."
+            summary = "Get a page of students",
+            description = "Retrieves a page of student records ordered by ID. Pass the returned nextCursor as 'after' to fetch the next page."
     )
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of students")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved page of students")
     @ApiResponse(responseCode = "401", description = "Unauthorized")
     @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
     @GetMapping
-    public ResponseEntity<List<StudentDTO>> getAllStudents() {
-        return ResponseEntity.ok(studentService.getAllStudents());
+    public ResponseEntity<CursorPage<StudentDTO>> getAllStudents(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of students to return (default 50, max 500)")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(studentService.getStudentsPage(after, limit));
+    }
+
+    @Operation(
+            summary = "Get students by a list of IDs",
+            description = "Retrieves up to 500 students in one request and one query, e.g. ?ids=1,2,3. Items are returned in the "
+                    + "order requested, each ID at most once; IDs that do not exist are listed in missingIds instead of failing the request."
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the requested students")
+    @ApiResponse(responseCode = "400", description = "No IDs, an empty ID or more than 500 IDs requested")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchGetResult<StudentDTO>> getStudentsByIds(
+            @Parameter(description = "Comma-separated IDs of the students to retrieve", required = true)
+            @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(studentService.getStudentsByIds(ids));
     }
 
     @Operation(
             summary = "Get student by ID",
-            description = "Retrieves a single student record by its ID."
+            description = "Retrieves a single student record by its ID. The response carries a strong ETag derived from the "
+                    + "record's version; a request whose If-None-Match matches it gets 304 without the record being loaded."
     )
     @ApiResponse(responseCode = "200", description = "Student found successfully")
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match")
     @ApiResponse(responseCode = "404", description = "Student not found")
     @ApiResponse(responseCode = "401", description = "Unauthorized")
     @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
     @GetMapping("/{id}")
     public ResponseEntity<StudentDTO> getStudentById(
             @Parameter(description = "ID of the student to retrieve", required = true)
+            @PathVariable Long id,
+            WebRequest request) {
+        String eTag = studentService.getStudentETag(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(studentService.getStudentById(id));
+    }
+
+    @Operation(
+            summary = "Get the ids of the classes a student is enrolled in",
+            description = "Returns ascending class ids from the in-memory enrollment index without querying the database. "
+                    + "An unknown student has no classes."
+    )
+    @ApiResponse(responseCode = "200", description = "Class ids returned successfully")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping("/{id}/class-ids")
+    public ResponseEntity<List<Long>> getEnrolledClassIds(
+            @Parameter(description = "ID of the student", required = true)
             @PathVariable Long id) {
-        return ResponseEntity.ok(studentService.getStudentById(id));
+        return ResponseEntity.ok(studentService.getEnrolledClassIds(id));
+    }
+
+    @Operation(
+            summary = "Get the classes a student is enrolled in",
+            description = "Returns a summary (id, name and teacher) of every class the student is enrolled in, ordered by class ID. "
+                    + "Rosters are not included."
+    )
+    @ApiResponse(responseCode = "200", description = "Classes returned successfully")
+    @ApiResponse(responseCode = "404", description = "Student not found")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping("/{id}/classes")
+    public ResponseEntity<List<ClassSummaryDTO>> getClassesOfStudent(
+            @Parameter(description = "ID of the student", required = true)
+            @PathVariable Long id) {
+        return ResponseEntity.ok(studentService.getClassesOfStudent(id));
     }
 
     @Operation(
@@ -100,4 +174,27 @@ public class StudentController {
         studentService.deleteStudent(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    @Operation(
+            summary = "Import students from CSV",
+            description = "Creates students from an uploaded CSV file with 'name,email' columns; a header row is optional. "
+                    + "Valid rows are saved in batches and invalid rows are skipped and reported in the summary. A malformed "
+                    + "record (e.g. an unterminated quote) ends the import: the rows before it are kept, the summary has "
+                    + "complete=false and the record's line is the last error."
+    )
+    @ApiResponse(responseCode = "200", description = "Import finished or stopped at a malformed record; returns accepted and rejected row counts")
+    @ApiResponse(responseCode = "400", description = "The upload could not be read")
+    @ApiResponse(responseCode = "413", description = "The upload exceeds spring.servlet.multipart.max-file-size")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StudentImportResultDTO> importStudents(
+            @Parameter(description = "CSV file with name,email rows", required = true)
+            @RequestParam("file") MultipartFile file) {
+        try (Reader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(studentImportService.importStudents(reader));
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read CSV upload: " + e.getMessage());
+        }
+    }
 }
@@ -1,11 +1,14 @@
 package com.classmanagementsystem.classmanagement.controller;
 
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.TeacherDTO;
 import com.classmanagementsystem.classmanagement.service.TeacherService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -41,30 +44,57 @@ public class TeacherController {
     }
 
     @Operation(
-            summary = "Get all teachers",
-            description = "Retrieves a list of all teacher records."
+            summary = "Get a page of teachers",
+            description = "Retrieves a page of teacher records ordered by ID. Pass the returned nextCursor as 'after' to fetch the next page."
     )
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of teachers")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved page of teachers")
     @ApiResponse(responseCode = "401", description = "Unauthorized")
     @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
     @GetMapping
-    public ResponseEntity<List<TeacherDTO>> getAllTeachers() {
-        return ResponseEntity.ok(teacherService.getAllTeachers());
+    public ResponseEntity<CursorPage<TeacherDTO>> getAllTeachers(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of teachers to return (default 50, max 500)")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(teacherService.getTeachersPage(after, limit));
+    }
+
+    @Operation(
+            summary = "Get teachers by a list of IDs",
+            description = "Retrieves up to 500 teachers in one request and one query, e.g. ?ids=1,2,3. Items are returned in the "
+                    + "order requested, each ID at most once; IDs that do not exist are listed in missingIds instead of failing the request."
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the requested teachers")
+    @ApiResponse(responseCode = "400", description = "No IDs, an empty ID or more than 500 IDs requested")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchGetResult<TeacherDTO>> getTeachersByIds(
+            @Parameter(description = "Comma-separated IDs of the teachers to retrieve", required = true)
+            @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(teacherService.getTeachersByIds(ids));
     }
 
     @Operation(
             summary = "Get teacher by ID",
-            description = "Retrieves a single teacher record by its ID."
+            description = "Retrieves a single teacher record by its ID. The response carries a strong ETag derived from the "
+                    + "record's version; a request whose If-None-Match matches it gets 304 without the record being loaded."
     )
     @ApiResponse(responseCode = "200", description = "Teacher found successfully")
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match")
     @ApiResponse(responseCode = "404", description = "Teacher not found")
     @ApiResponse(responseCode = "401", description = "Unauthorized")
     @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
     @GetMapping("/{id}")
     public ResponseEntity<TeacherDTO> getTeacherById(
             @Parameter(description = "ID of the teacher to retrieve", required = true)
-            @PathVariable Long id) {
-        return ResponseEntity.ok(teacherService.getTeacherById(id));
+            @PathVariable Long id,
+            WebRequest request) {
+        String eTag = teacherService.getTeacherETag(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(teacherService.getTeacherById(id));
     }
 
     @Operation(
@@ -1,5 +1,6 @@
 package com.classmanagementsystem.classmanagement.controller;
 
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.RegisterDto;
 import com.classmanagementsystem.classmanagement.dto.UserDTO;
 import com.classmanagementsystem.classmanagement.service.UserService;
@@ -13,8 +14,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 // Removed: import io.swagger.v3.oas.annotations.parameters.RequestBody; // This caused ambiguity
 import io.swagger.v3.oas.annotations.Parameter;
 
-import java.util.List;
-
 @Tag(name = "User Management", description = "APIs for managing user records")
 @RestController
 @RequestMapping("/api/auth")
@@ -56,15 +55,19 @@ public class UserController {
     }
 
     @Operation(
-            summary = "Get all users",
-            description = "Retrieves a list of all user records. Only accessible by ADMIN."
+            summary = "Get a page of users",
+            description = "Retrieves a page of user records ordered by ID. Pass the returned nextCursor as 'after' to fetch the next page. Only accessible by ADMIN."
     )
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of users")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved page of users")
     @ApiResponse(responseCode = "401", description = "Unauthorized")
     @ApiResponse(responseCode = "403", description = "Forbidden: Insufficient privileges")
     @GetMapping("/users")
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<CursorPage<UserDTO>> getAllUsers(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of users to return (default 50, max 500)")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(userService.getUsersPage(after, limit));
     }
 
     @Operation(
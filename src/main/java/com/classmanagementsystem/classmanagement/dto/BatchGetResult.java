@@ -0,0 +1,88 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+import com.classmanagementsystem.classmanagement.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The result of a multi-get by id list.
+ * {@code items} are in the order the ids were requested, each id at most once; {@code missingIds} are the requested
+ * ids that do not exist, in the same order.
+ */
+public class BatchGetResult<T> {
+
+    public static final int MAX_IDS = 500;
+
+    private List<T> items;
+    private List<Long> missingIds;
+
+    // No-argument constructor
+    public BatchGetResult() {
+    }
+
+    // All-arguments constructor
+    public BatchGetResult(List<T> items, List<Long> missingIds) {
+        this.items = items;
+        this.missingIds = missingIds;
+    }
+
+    /**
+     * Validates the requested ids and drops repeated ones, keeping the first occurrence.
+     * @throws BadRequestException if no id, an empty id or more than {@link #MAX_IDS} distinct ids were requested.
+     */
+    public static List<Long> resolveIds(List<Long> requested) {
+        if (requested == null || requested.isEmpty()) {
+            throw new BadRequestException("At least one id is required");
+        }
+        if (requested.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("Ids must not be empty");
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(requested));
+        if (ids.size() > MAX_IDS) {
+            throw new BadRequestException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        return ids;
+    }
+
+    /**
+     * Builds a result from the rows found for {@code ids}, which may come back in any order.
+     */
+    public static <E, T> BatchGetResult<T> of(List<Long> ids, List<E> rows, Function<E, Long> idExtractor,
+                                              Function<E, T> mapper) {
+        Map<Long, E> rowsById = rows.stream().collect(Collectors.toMap(idExtractor, Function.identity()));
+        List<T> items = new ArrayList<>(rowsById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            E row = rowsById.get(id);
+            if (row == null) {
+                missingIds.add(id);
+            } else {
+                items.add(mapper.apply(row));
+            }
+        }
+        return new BatchGetResult<>(items, missingIds);
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,34 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkEnrollmentRequestDTO {
+
+    public static final int MAX_ENROLLMENTS = 100_000;
+
+    @NotEmpty(message = "Enrollments cannot be empty")
+    @Size(max = MAX_ENROLLMENTS, message = "At most 100000 enrollments can be submitted per request")
+    private List<@Valid EnrollmentDTO> enrollments;
+
+    // No-argument constructor
+    public BulkEnrollmentRequestDTO() {
+    }
+
+    // All-arguments constructor
+    public BulkEnrollmentRequestDTO(List<EnrollmentDTO> enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    // Getters and Setters
+    public List<EnrollmentDTO> getEnrollments() {
+        return enrollments;
+    }
+
+    public void setEnrollments(List<EnrollmentDTO> enrollments) {
+        this.enrollments = enrollments;
+    }
+}
@@ -0,0 +1,36 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+/**
+ * A class name offered as a completion by {@code GET /api/classes/suggest}.
+ */
+public class ClassSuggestionDTO {
+    private Long id;
+    private String name;
+
+    // No-argument constructor
+    public ClassSuggestionDTO() {
+    }
+
+    // All-arguments constructor (also used by the JPQL constructor expression in ClassesRepository)
+    public ClassSuggestionDTO(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,56 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+/**
+ * A class without its roster: what a student sees in their list of classes.
+ */
+public class ClassSummaryDTO {
+    private Long id;
+    private String name;
+    private Long teacherId;
+    private String teacherName;
+
+    // No-argument constructor
+    public ClassSummaryDTO() {
+    }
+
+    // All-arguments constructor (also used by the JPQL constructor expression in ClassesRepository)
+    public ClassSummaryDTO(Long id, String name, Long teacherId, String teacherName) {
+        this.id = id;
+        this.name = name;
+        this.teacherId = teacherId;
+        this.teacherName = teacherName;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getTeacherId() {
+        return teacherId;
+    }
+
+    public void setTeacherId(Long teacherId) {
+        this.teacherId = teacherId;
+    }
+
+    public String getTeacherName() {
+        return teacherName;
+    }
+
+    public void setTeacherName(String teacherName) {
+        this.teacherName = teacherName;
+    }
+}
@@ -0,0 +1,84 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+import com.classmanagementsystem.classmanagement.exception.BadRequestException;
+import com.classmanagementsystem.classmanagement.util.CursorCodec;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One page of a keyset-paginated listing.
+ * {@code nextCursor} is an opaque token to pass back as {@code after}; it is null on the last page.
+ */
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private List<T> items;
+    private String nextCursor;
+    private int limit;
+
+    // No-argument constructor
+    public CursorPage() {
+    }
+
+    // All-arguments constructor
+    public CursorPage(List<T> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    /**
+     * Resolves the requested page size, falling back to {@link #DEFAULT_LIMIT} and capping at {@link #MAX_LIMIT}.
+     */
+    public static int resolveLimit(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (requested < 1) {
+            throw new BadRequestException("Page limit must be at least 1");
+        }
+        return Math.min(requested, MAX_LIMIT);
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}: the extra row only signals that a next page exists.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit, Function<E, Long> idExtractor, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(idExtractor.apply(pageRows.get(pageRows.size() - 1))) : null;
+        List<T> items = pageRows.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor, limit);
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,64 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Objects;
+
+public class EnrollmentDTO {
+
+    @NotNull(message = "Class id cannot be null")
+    private Long classId;
+
+    @NotNull(message = "Student id cannot be null")
+    private Long studentId;
+
+    // No-argument constructor
+    public EnrollmentDTO() {
+    }
+
+    // All-arguments constructor
+    public EnrollmentDTO(Long classId, Long studentId) {
+        this.classId = classId;
+        this.studentId = studentId;
+    }
+
+    // Getters and Setters
+    public Long getClassId() {
+        return classId;
+    }
+
+    public void setClassId(Long classId) {
+        this.classId = classId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    // Value semantics so pairs can be de-duplicated and matched against existing rows
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EnrollmentDTO)) {
+            return false;
+        }
+        EnrollmentDTO that = (EnrollmentDTO) o;
+        return Objects.equals(classId, that.classId) && Objects.equals(studentId, that.studentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classId, studentId);
+    }
+
+    @Override
+    public String toString() {
+        return "EnrollmentDTO{classId=" + classId + ", studentId=" + studentId + "}";
+    }
+}
@@ -0,0 +1,43 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+public class EnrollmentMembershipDTO {
+    private Long classId;
+    private Long studentId;
+    private boolean enrolled;
+
+    // No-argument constructor
+    public EnrollmentMembershipDTO() {
+    }
+
+    // All-arguments constructor
+    public EnrollmentMembershipDTO(Long classId, Long studentId, boolean enrolled) {
+        this.classId = classId;
+        this.studentId = studentId;
+        this.enrolled = enrolled;
+    }
+
+    // Getters and Setters
+    public Long getClassId() {
+        return classId;
+    }
+
+    public void setClassId(Long classId) {
+        this.classId = classId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public boolean isEnrolled() {
+        return enrolled;
+    }
+
+    public void setEnrolled(boolean enrolled) {
+        this.enrolled = enrolled;
+    }
+}
@@ -0,0 +1,43 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+public class EnrollmentResultDTO {
+    private Long classId;
+    private Long studentId;
+    private EnrollmentStatus status;
+
+    // No-argument constructor
+    public EnrollmentResultDTO() {
+    }
+
+    // All-arguments constructor
+    public EnrollmentResultDTO(Long classId, Long studentId, EnrollmentStatus status) {
+        this.classId = classId;
+        this.studentId = studentId;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public Long getClassId() {
+        return classId;
+    }
+
+    public void setClassId(Long classId) {
+        this.classId = classId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public EnrollmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EnrollmentStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,12 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+/**
+ * Outcome of enrolling one student in one class.
+ */
+public enum EnrollmentStatus {
+    ENROLLED,
+    ALREADY_ENROLLED,
+    DUPLICATE_IN_REQUEST,
+    CLASS_NOT_FOUND,
+    STUDENT_NOT_FOUND
+}
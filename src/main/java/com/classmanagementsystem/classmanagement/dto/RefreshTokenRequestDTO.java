@@ -0,0 +1,27 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class RefreshTokenRequestDTO {
+
+    @NotBlank(message = "Refresh token cannot be empty")
+    private String refreshToken;
+
+    // No-argument constructor
+    public RefreshTokenRequestDTO() {
+    }
+
+    // All-arguments constructor
+    public RefreshTokenRequestDTO(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    // Getters and Setters
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,9 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+/**
+ * Kind of record returned by {@code GET /api/search}.
+ */
+public enum SearchEntityType {
+    STUDENT,
+    TEACHER
+}
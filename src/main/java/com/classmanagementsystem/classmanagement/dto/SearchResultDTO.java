@@ -0,0 +1,64 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+public class SearchResultDTO {
+    private SearchEntityType type;
+    private Long id;
+    private String name;
+    // Email for students, subject for teachers
+    private String detail;
+    private int score;
+
+    // No-argument constructor
+    public SearchResultDTO() {
+    }
+
+    // All-arguments constructor
+    public SearchResultDTO(SearchEntityType type, Long id, String name, String detail, int score) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+        this.detail = detail;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public SearchEntityType getType() {
+        return type;
+    }
+
+    public void setType(SearchEntityType type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+}
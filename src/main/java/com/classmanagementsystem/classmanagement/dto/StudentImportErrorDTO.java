@@ -0,0 +1,33 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+public class StudentImportErrorDTO {
+    private long line;
+    private String message;
+
+    // No-argument constructor
+    public StudentImportErrorDTO() {
+    }
+
+    // All-arguments constructor
+    public StudentImportErrorDTO(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,84 @@
+package com.classmanagementsystem.classmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary of a CSV student import. Only the first {@link #MAX_REPORTED_ERRORS} rejected rows are
+ * described individually so the response stays small for very large uploads.
+ * {@code complete} is false when the upload stopped at a malformed record; the rows counted as accepted
+ * were saved, nothing after that record was read, and the record is always the last entry of {@code errors}.
+ */
+public class StudentImportResultDTO {
+
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private long accepted;
+    private long rejected;
+    private List<StudentImportErrorDTO> errors = new ArrayList<>();
+    private boolean complete = true;
+
+    // No-argument constructor
+    public StudentImportResultDTO() {
+    }
+
+    // All-arguments constructor
+    public StudentImportResultDTO(long accepted, long rejected, List<StudentImportErrorDTO> errors) {
+        this.accepted = accepted;
+        this.rejected = rejected;
+        this.errors = errors;
+    }
+
+    public void addAccepted(int count) {
+        accepted += count;
+    }
+
+    public void reject(long line, String message) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new StudentImportErrorDTO(line, message));
+        }
+    }
+
+    /**
+     * Records the malformed record the import stopped at, even if the other errors were already capped.
+     */
+    public void stop(long line, String message) {
+        rejected++;
+        errors.add(new StudentImportErrorDTO(line, message));
+        complete = false;
+    }
+
+    // Getters and Setters
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(long accepted) {
+        this.accepted = accepted;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<StudentImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<StudentImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+}
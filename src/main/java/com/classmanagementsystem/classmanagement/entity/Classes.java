@@ -6,26 +6,44 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@NamedEntityGraph(name = Classes.GRAPH_ROSTER, attributeNodes = {
+        @NamedAttributeNode("teacher"),
+        @NamedAttributeNode("students")
+})
 public class Classes {
 
+    /**
+     * Fetch plan that loads a class together with its teacher and enrolled students in a single query.
+     */
+    public static final String GRAPH_ROSTER = "Classes.roster";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "classes_id")
+    @TableGenerator(name = "classes_id", table = IdGeneration.TABLE, pkColumnName = IdGeneration.KEY_COLUMN,
+            valueColumnName = IdGeneration.VALUE_COLUMN, pkColumnValue = "classes",
+            allocationSize = IdGeneration.DEFAULT_ALLOCATION_SIZE)
     private Long id;
 
     private String name;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teacher_id")
     private Teacher teacher;
 
+    // The primary key (class_id, student_id) serves roster lookups; student_id is indexed for "classes of a student"
     @ManyToMany
     @JoinTable(
             name = "class_student",
             joinColumns = @JoinColumn(name = "class_id"),
-            inverseJoinColumns = @JoinColumn(name = "student_id")
+            inverseJoinColumns = @JoinColumn(name = "student_id"),
+            indexes = @Index(name = "idx_class_student_student_id", columnList = "student_id")
     )
     private Set<Student> students = new HashSet<>();
 
+    // Incremented on every update, including roster changes written by EnrollmentRepository
+    @Version
+    private long version;
+
     // No-argument constructor
     public Classes() {
     }
@@ -70,4 +88,12 @@ public class Classes {
     public void setStudents(Set<Student> students) {
         this.students = students;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
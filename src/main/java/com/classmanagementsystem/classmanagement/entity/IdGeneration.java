@@ -0,0 +1,31 @@
+package com.classmanagementsystem.classmanagement.entity;
+
+/**
+ * Shared settings for entity id generation. Every entity draws ids from its own row in the
+ * {@value #TABLE} table through a {@code @TableGenerator}. Each node reserves a block of
+ * {@code allocationSize} ids with a single row update and then assigns ids from memory, which keeps
+ * inserts batchable and lets several application nodes share one database without handing out the same id.
+ * <p>
+ * How a reserved block is turned into ids is chosen by {@code hibernate.id.optimizer.pooled.preferred}
+ * ({@code pooled} or {@code pooled-lo}). Both store a block boundary in {@code next_val}, but a different
+ * one, so pick the optimizer once per database and do not switch it on a populated schema.
+ */
+public final class IdGeneration {
+
+    public static final String TABLE = "id_generator";
+    public static final String KEY_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    /**
+     * Block size for entities created one at a time through the API.
+     */
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    /**
+     * Block size for entities that are also created by bulk imports.
+     */
+    public static final int BULK_ALLOCATION_SIZE = 1000;
+
+    private IdGeneration() {
+    }
+}
@@ -1,21 +1,36 @@
 package com.classmanagementsystem.classmanagement.entity;
 
+import com.classmanagementsystem.classmanagement.cache.HibernateCacheConfig;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.STUDENT_REGION)
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "student_id")
+    @TableGenerator(name = "student_id", table = IdGeneration.TABLE, pkColumnName = IdGeneration.KEY_COLUMN,
+            valueColumnName = IdGeneration.VALUE_COLUMN, pkColumnValue = "student",
+            allocationSize = IdGeneration.BULK_ALLOCATION_SIZE)
     private Long id;
 
     private String name;
 
     private String email;
 
+    // Incremented on every update; served as the ETag of GET /api/students/{id}
+    @Version
+    private long version;
+
     // No-argument constructor
     public Student() {
     }
@@ -51,4 +66,12 @@ public class Student {
     public void setEmail(String email) {
         this.email = email;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
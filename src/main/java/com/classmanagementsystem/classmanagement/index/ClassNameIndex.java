@@ -0,0 +1,242 @@
+package com.classmanagementsystem.classmanagement.index;
+
+import com.classmanagementsystem.classmanagement.dto.ClassSuggestionDTO;
+import com.classmanagementsystem.classmanagement.repository.ClassesRepository;
+import com.classmanagementsystem.classmanagement.util.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class names in sorted arrays, answering as-you-type completion by binary search without the database.
+ * <p>
+ * Names are compared lowercased and without accents (see {@link SearchIndex#normalize(String)}), and completions
+ * come back in that order, so an exact match precedes longer names that extend it. The arrays are copy-on-write:
+ * a change builds new arrays and publishes them with one volatile write, so readers never lock and always see a
+ * consistent snapshot. That suits names, which are read far more often than they change; each change costs one copy
+ * of the arrays.
+ * <p>
+ * The index is loaded once all singletons are created, before the web server accepts requests, and is then kept
+ * current by {@code ClassesService}; changes made inside a transaction are applied after it commits. Writers are
+ * serialized by a {@link ReentrantLock}, so waiting virtual threads do not pin their carrier. A rebuild loads and sorts
+ * the names without holding it; changes applied meanwhile are recorded and replayed onto the new arrays before they
+ * are published, so a change is never lost to a concurrent rebuild. Changes made by other application instances or
+ * directly in the database are only picked up by {@link #rebuild()}.
+ */
+@Component
+public class ClassNameIndex implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClassNameIndex.class);
+
+    private final ClassesRepository classesRepository;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Changes applied while a rebuild is loading the names, guarded by writeLock; null when none is running
+    private List<Change> changesDuringRebuild;
+
+    private volatile Entries entries = new Entries(new String[0], new String[0], new long[0]);
+
+    public ClassNameIndex(ClassesRepository classesRepository) {
+        this.classesRepository = classesRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Reloads the whole index from the classes table.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            List<Change> changes = new ArrayList<>();
+            writeLock.lock();
+            try {
+                changesDuringRebuild = changes;
+            } finally {
+                writeLock.unlock();
+            }
+            try {
+                load(changes);
+            } finally {
+                writeLock.lock();
+                try {
+                    changesDuringRebuild = null;
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void load(List<Change> changes) {
+        long start = System.nanoTime();
+        record Row(String key, String name, long id) {
+        }
+        List<Row> rows = classesRepository.findAllNames().stream()
+                .filter(row -> row.getName() != null)
+                .map(row -> new Row(SearchIndex.normalize(row.getName()), row.getName(), row.getId()))
+                .sorted(Comparator.comparing(Row::key).thenComparingLong(Row::id))
+                .toList();
+        String[] keys = new String[rows.size()];
+        String[] names = new String[rows.size()];
+        long[] ids = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            keys[i] = rows.get(i).key();
+            names[i] = rows.get(i).name();
+            ids[i] = rows.get(i).id();
+        }
+        Entries loaded = new Entries(keys, names, ids);
+        writeLock.lock();
+        try {
+            // Replacing or removing an entry by id is idempotent, so replaying one the load already saw is harmless
+            for (Change change : changes) {
+                loaded = change.applyTo(loaded);
+            }
+            entries = loaded;
+        } finally {
+            writeLock.unlock();
+        }
+        logger.info("Class name index loaded {} names in {}ms", ids.length, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @param prefix Start of the class name; case and accents are ignored.
+     * @param limit  Maximum number of completions.
+     * @return Up to {@code limit} classes whose name starts with the prefix, in name order.
+     */
+    public List<ClassSuggestionDTO> suggest(String prefix, int limit) {
+        Entries current = entries;
+        String key = SearchIndex.normalize(prefix).stripLeading();
+        List<ClassSuggestionDTO> suggestions = new ArrayList<>(Math.min(limit, 16));
+        for (int i = current.lowerBound(key, Long.MIN_VALUE);
+             i < current.size() && suggestions.size() < limit && current.keys[i].startsWith(key); i++) {
+            suggestions.add(new ClassSuggestionDTO(current.ids[i], current.names[i]));
+        }
+        return suggestions;
+    }
+
+    public void classSaved(Long classId, String name) {
+        TransactionCallbacks.afterCommit(() -> update(classId, name));
+    }
+
+    public void classRemoved(Long classId) {
+        TransactionCallbacks.afterCommit(() -> update(classId, null));
+    }
+
+    /**
+     * Replaces or removes the entry of one class. Writers are serialized so that no change is lost between reading
+     * the current arrays and publishing the copy.
+     */
+    private void update(long classId, String name) {
+        Change change = new Change(classId, name);
+        writeLock.lock();
+        try {
+            entries = change.applyTo(entries);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * The new name of one class, or {@code null} if it was removed.
+     */
+    private record Change(long classId, String name) {
+
+        Entries applyTo(Entries current) {
+            int existing = current.indexOfId(classId);
+            Entries without = existing < 0 ? current : current.without(existing);
+            return name == null ? without : without.with(SearchIndex.normalize(name), name, classId);
+        }
+    }
+
+    /**
+     * Parallel arrays sorted by normalized name, then id. Never modified once published.
+     */
+    private record Entries(String[] keys, String[] names, long[] ids) {
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * @return The first position whose entry sorts at or after the given key and id.
+         */
+        int lowerBound(String key, long id) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                int comparison = keys[middle].compareTo(key);
+                if (comparison < 0 || (comparison == 0 && ids[middle] < id)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        int indexOfId(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Entries without(int position) {
+            return new Entries(remove(keys, position), remove(names, position), remove(ids, position));
+        }
+
+        Entries with(String key, String name, long id) {
+            int position = lowerBound(key, id);
+            return new Entries(insert(keys, position, key), insert(names, position, name), insert(ids, position, id));
+        }
+
+        private static String[] remove(String[] array, int position) {
+            String[] copy = new String[array.length - 1];
+            System.arraycopy(array, 0, copy, 0, position);
+            System.arraycopy(array, position + 1, copy, position, copy.length - position);
+            return copy;
+        }
+
+        private static long[] remove(long[] array, int position) {
+            long[] copy = new long[array.length - 1];
+            System.arraycopy(array, 0, copy, 0, position);
+            System.arraycopy(array, position + 1, copy, position, copy.length - position);
+            return copy;
+        }
+
+        private static String[] insert(String[] array, int position, String value) {
+            String[] copy = new String[array.length + 1];
+            System.arraycopy(array, 0, copy, 0, position);
+            copy[position] = value;
+            System.arraycopy(array, position, copy, position + 1, array.length - position);
+            return copy;
+        }
+
+        private static long[] insert(long[] array, int position, long value) {
+            long[] copy = new long[array.length + 1];
+            System.arraycopy(array, 0, copy, 0, position);
+            copy[position] = value;
+            System.arraycopy(array, position, copy, position + 1, array.length - position);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.classmanagementsystem.classmanagement.index;
+
+import com.classmanagementsystem.classmanagement.dto.EnrollmentDTO;
+import com.classmanagementsystem.classmanagement.repository.EnrollmentRepository;
+import com.classmanagementsystem.classmanagement.util.TransactionCallbacks;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of the {@code class_student} join table as compressed bitmaps: the student ids of every class and
+ * the class ids of every student. Membership, roster and intersection queries are answered without the database.
+ * <p>
+ * The index is loaded once all singletons are created, before the web server accepts requests, and is then kept
+ * current by the enrollment paths of {@code ClassesService}; changes made inside a transaction are applied after it
+ * commits. Code that writes the join table directly (such as {@code DataLoader}) must call {@link #rebuild()}.
+ * <p>
+ * Bitmaps are copy-on-write: a change publishes a new bitmap for the affected key, so readers never see a bitmap
+ * being modified and need no locking. Writers are serialized by a {@link ReentrantLock}, so waiting virtual threads
+ * do not pin their carrier. A rebuild reads the join table without holding it; changes applied meanwhile are recorded
+ * and replayed onto the new bitmaps before they are published, so a change is never lost to a concurrent rebuild.
+ * The two directions are updated one after the other, so a concurrent reader may briefly see an enrollment in one
+ * direction only. Changes made by other application instances or directly in the database are
+ * only picked up by {@link #rebuild()}.
+ * <p>
+ * Ids are stored as 32-bit ints. Recording an enrollment, or rebuilding from a join table, with an id outside that
+ * range fails with an {@link IllegalArgumentException} instead of truncating it; queries for such an id find nothing.
+ */
+@Component
+public class EnrollmentIndex implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentIndex.class);
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Changes applied while a rebuild is reading the join table, guarded by writeLock; null when none is running
+    private List<Change> changesDuringRebuild;
+
+    private volatile Map<Integer, RoaringBitmap> studentsByClass = new ConcurrentHashMap<>();
+    private volatile Map<Integer, RoaringBitmap> classesByStudent = new ConcurrentHashMap<>();
+
+    public EnrollmentIndex(EnrollmentRepository enrollmentRepository) {
+        this.enrollmentRepository = enrollmentRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Reloads the whole index from the join table.
+     *
+     * @throws IllegalArgumentException if the join table holds an id outside the int range; the index is unchanged.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            List<Change> changes = new ArrayList<>();
+            writeLock.lock();
+            try {
+                changesDuringRebuild = changes;
+            } finally {
+                writeLock.unlock();
+            }
+            try {
+                load(changes);
+            } finally {
+                writeLock.lock();
+                try {
+                    changesDuringRebuild = null;
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void load(List<Change> changes) {
+        long start = System.nanoTime();
+        Map<Integer, RoaringBitmap> byClass = new HashMap<>();
+        Map<Integer, RoaringBitmap> byStudent = new HashMap<>();
+        long[] rows = new long[1];
+        enrollmentRepository.forEach((classId, studentId) -> {
+            int classKey = key(classId);
+            int studentKey = key(studentId);
+            byClass.computeIfAbsent(classKey, k -> new RoaringBitmap()).add(studentKey);
+            byStudent.computeIfAbsent(studentKey, k -> new RoaringBitmap()).add(classKey);
+            rows[0]++;
+        });
+        byClass.values().forEach(RoaringBitmap::runOptimize);
+        byStudent.values().forEach(RoaringBitmap::runOptimize);
+        Map<Integer, RoaringBitmap> newStudentsByClass = new ConcurrentHashMap<>(byClass);
+        Map<Integer, RoaringBitmap> newClassesByStudent = new ConcurrentHashMap<>(byStudent);
+        writeLock.lock();
+        try {
+            // Every change is idempotent, so replaying one the scan already saw is harmless
+            changes.forEach(change -> change.applyTo(newStudentsByClass, newClassesByStudent));
+            studentsByClass = newStudentsByClass;
+            classesByStudent = newClassesByStudent;
+        } finally {
+            writeLock.unlock();
+        }
+        logger.info("Enrollment index loaded {} enrollments for {} classes and {} students in {}ms",
+                rows[0], byClass.size(), byStudent.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isEnrolled(Long classId, Long studentId) {
+        if (!fits(classId) || !fits(studentId)) {
+            return false;
+        }
+        RoaringBitmap students = studentsByClass.get(classId.intValue());
+        return students != null && students.contains(studentId.intValue());
+    }
+
+    public List<Long> getStudentIds(Long classId) {
+        return fits(classId) ? toIds(studentsByClass.get(classId.intValue())) : List.of();
+    }
+
+    public List<Long> getClassIds(Long studentId) {
+        return fits(studentId) ? toIds(classesByStudent.get(studentId.intValue())) : List.of();
+    }
+
+    /**
+     * @return Ids of the students enrolled in both classes, in ascending order.
+     */
+    public List<Long> getSharedStudentIds(Long classId, Long otherClassId) {
+        if (!fits(classId) || !fits(otherClassId)) {
+            return List.of();
+        }
+        RoaringBitmap students = studentsByClass.get(classId.intValue());
+        RoaringBitmap otherStudents = studentsByClass.get(otherClassId.intValue());
+        if (students == null || otherStudents == null) {
+            return List.of();
+        }
+        return toIds(RoaringBitmap.and(students, otherStudents));
+    }
+
+    /**
+     * @throws IllegalArgumentException if either id is outside the int range.
+     */
+    public void enrolled(Long classId, Long studentId) {
+        int classKey = key(classId);
+        int studentKey = key(studentId);
+        TransactionCallbacks.afterCommit(() -> apply((byClass, byStudent) -> {
+            add(byClass, classKey, List.of(studentKey));
+            add(byStudent, studentKey, List.of(classKey));
+        }));
+    }
+
+    /**
+     * @throws IllegalArgumentException if any id is outside the int range.
+     */
+    public void enrolledAll(Collection<EnrollmentDTO> enrollments) {
+        if (enrollments.isEmpty()) {
+            return;
+        }
+        // One copy per affected class and student rather than one per pair
+        Map<Integer, List<Integer>> studentsToAdd = enrollments.stream().collect(Collectors.groupingBy(
+                e -> key(e.getClassId()),
+                Collectors.mapping(e -> key(e.getStudentId()), Collectors.toList())));
+        Map<Integer, List<Integer>> classesToAdd = enrollments.stream().collect(Collectors.groupingBy(
+                e -> key(e.getStudentId()),
+                Collectors.mapping(e -> key(e.getClassId()), Collectors.toList())));
+        TransactionCallbacks.afterCommit(() -> apply((byClass, byStudent) -> {
+            studentsToAdd.forEach((classKey, studentKeys) -> add(byClass, classKey, studentKeys));
+            classesToAdd.forEach((studentKey, classKeys) -> add(byStudent, studentKey, classKeys));
+        }));
+    }
+
+    public void unenrolled(Long classId, Long studentId) {
+        if (!fits(classId) || !fits(studentId)) {
+            return;
+        }
+        int classKey = classId.intValue();
+        int studentKey = studentId.intValue();
+        TransactionCallbacks.afterCommit(() -> apply((byClass, byStudent) -> {
+            remove(byClass, classKey, studentKey);
+            remove(byStudent, studentKey, classKey);
+        }));
+    }
+
+    public void classRemoved(Long classId) {
+        if (fits(classId)) {
+            int classKey = classId.intValue();
+            TransactionCallbacks.afterCommit(() -> apply((byClass, byStudent) ->
+                    removeKey(byClass, byStudent, classKey)));
+        }
+    }
+
+    public void studentRemoved(Long studentId) {
+        if (fits(studentId)) {
+            int studentKey = studentId.intValue();
+            TransactionCallbacks.afterCommit(() -> apply((byClass, byStudent) ->
+                    removeKey(byStudent, byClass, studentKey)));
+        }
+    }
+
+    /**
+     * Applies a change to the published bitmaps and, while a rebuild is reading the join table, records it for replay.
+     */
+    private void apply(Change change) {
+        writeLock.lock();
+        try {
+            change.applyTo(studentsByClass, classesByStudent);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a class or student from one direction and every reference to it from the other.
+     */
+    private static void removeKey(Map<Integer, RoaringBitmap> direction, Map<Integer, RoaringBitmap> inverse,
+                                        int key) {
+        RoaringBitmap values = direction.remove(key);
+        if (values != null) {
+            values.forEach((int value) -> remove(inverse, value, key));
+        }
+    }
+
+    private static void add(Map<Integer, RoaringBitmap> bitmaps, int key, List<Integer> values) {
+        bitmaps.compute(key, (k, current) -> {
+            RoaringBitmap copy = current == null ? new RoaringBitmap() : current.clone();
+            values.forEach(copy::add);
+            return copy;
+        });
+    }
+
+    private static void remove(Map<Integer, RoaringBitmap> bitmaps, int key, int value) {
+        bitmaps.computeIfPresent(key, (k, current) -> {
+            if (!current.contains(value)) {
+                return current;
+            }
+            RoaringBitmap copy = current.clone();
+            copy.remove(value);
+            return copy.isEmpty() ? null : copy;
+        });
+    }
+
+    private static boolean fits(Long id) {
+        return id != null && id == id.intValue();
+    }
+
+    private static int key(Long id) {
+        if (!fits(id)) {
+            throw new IllegalArgumentException("Id " + id + " cannot be stored in the enrollment index, which only "
+                    + "holds ids between " + Integer.MIN_VALUE + " and " + Integer.MAX_VALUE);
+        }
+        return id.intValue();
+    }
+
+    private static List<Long> toIds(RoaringBitmap bitmap) {
+        if (bitmap == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach((int id) -> ids.add((long) id));
+        return ids;
+    }
+
+    /**
+     * One committed change, applied to the bitmaps of both directions.
+     */
+    @FunctionalInterface
+    private interface Change {
+
+        void applyTo(Map<Integer, RoaringBitmap> studentsByClass, Map<Integer, RoaringBitmap> classesByStudent);
+    }
+}
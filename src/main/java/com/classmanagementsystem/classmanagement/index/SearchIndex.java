@@ -0,0 +1,452 @@
+package com.classmanagementsystem.classmanagement.index;
+
+import com.classmanagementsystem.classmanagement.dto.SearchEntityType;
+import com.classmanagementsystem.classmanagement.dto.SearchResultDTO;
+import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.entity.Teacher;
+import com.classmanagementsystem.classmanagement.repository.SearchDocumentRepository;
+import com.classmanagementsystem.classmanagement.util.TransactionCallbacks;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over student names and emails and teacher names and subjects, answering substring and
+ * typeahead queries without {@code LIKE '%x%'} scans.
+ * <p>
+ * Text is lowercased and stripped of accents, then split into words at every character that is not a letter or
+ * digit. Each word is indexed by its trigrams and by its first one and two characters, and every posting list is a
+ * compressed bitmap of document ordinals. A query term of three or more characters matches any document containing
+ * it; shorter terms match the start of a word. Terms are combined with AND: their posting lists are intersected,
+ * smallest first, and the surviving candidates are verified against the text (trigrams alone do not prove the term
+ * is contiguous) and scored. Matches in the name weigh twice as much as matches in the email or subject.
+ * <p>
+ * Documents with a word of the name starting with every term are scored first, and the others only if they could
+ * still outrank them. At most {@link #MAX_CANDIDATES} documents are scored per query, so a very broad query (a single
+ * letter over a million records) ranks the first matches of each tier rather than all of them.
+ * <p>
+ * The index is loaded once all singletons are created and is then kept current by the write paths of
+ * {@code StudentService}, {@code TeacherService} and {@code StudentImportService}; changes made inside a transaction
+ * are applied after it commits. Searches share a read lock and changes take the write lock, so a search never sees
+ * a document half updated. A {@link #rebuild()} loads the new contents without holding the lock and swaps them in;
+ * changes committed while it is loading may be lost, and changes made by other application instances or directly in
+ * the database are only picked up by a rebuild.
+ */
+@Component
+public class SearchIndex implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    // Bounds the work of very broad queries (e.g. a single letter); beyond it the ranking is over the first matches
+    static final int MAX_CANDIDATES = 2_000;
+
+    private static final int SCORE_EXACT = 100;
+    private static final int SCORE_PREFIX = 60;
+    private static final int SCORE_WORD_PREFIX = 40;
+    private static final int SCORE_CONTAINS = 20;
+    private static final int NAME_WEIGHT = 2;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    // Worst result first, so the head of a bounded heap is the one to evict
+    private static final Comparator<Match> WORST_FIRST = (a, b) -> {
+        if (a.score() != b.score()) {
+            return Integer.compare(a.score(), b.score());
+        }
+        // Among equal scores the shorter name is the closer match
+        int byLength = Integer.compare(b.document().name().length(), a.document().name().length());
+        if (byLength != 0) {
+            return byLength;
+        }
+        int byType = b.document().type().compareTo(a.document().type());
+        return byType != 0 ? byType : Long.compare(b.document().id(), a.document().id());
+    };
+
+    private final SearchDocumentRepository searchDocumentRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Contents contents = new Contents();
+
+    public SearchIndex(SearchDocumentRepository searchDocumentRepository) {
+        this.searchDocumentRepository = searchDocumentRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Reloads the whole index from the student and teacher tables.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        Contents loaded = new Contents();
+        searchDocumentRepository.forEachStudent((id, name, email) ->
+                loaded.put(new Document(SearchEntityType.STUDENT, id, name, email)));
+        searchDocumentRepository.forEachTeacher((id, name, subject) ->
+                loaded.put(new Document(SearchEntityType.TEACHER, id, name, subject)));
+        loaded.postings.values().forEach(RoaringBitmap::runOptimize);
+        lock.writeLock().lock();
+        try {
+            contents = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Search index loaded {} documents and {} grams in {}ms",
+                loaded.size(), loaded.postings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @param query Free text; every word in it must match.
+     * @param limit Maximum number of results.
+     * @param type  Restricts the results to one kind of record, or {@code null} for all.
+     * @return The best matches, highest score first.
+     */
+    public List<SearchResultDTO> search(String query, int limit, SearchEntityType type) {
+        List<String> terms = words(normalize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        lock.readLock().lock();
+        try {
+            RoaringBitmap candidates = contents.candidates(terms, type);
+            if (candidates == null) {
+                return List.of();
+            }
+            // Documents whose name has a word starting with every term outrank the rest in most queries, so they
+            // are scored first; the rest are only scored if one of them could still make the top results
+            RoaringBitmap remaining = candidates;
+            int budget = MAX_CANDIDATES;
+            RoaringBitmap namePrefixed = contents.namePrefixed(terms);
+            if (namePrefixed != null) {
+                RoaringBitmap first = RoaringBitmap.and(candidates, namePrefixed);
+                budget -= collect(first, terms, limit, budget, best);
+                if (best.size() == limit && best.peek().score() > maxScoreWithoutNamePrefix(terms.size())) {
+                    remaining = null;
+                } else {
+                    remaining = RoaringBitmap.andNot(candidates, first);
+                }
+            }
+            if (remaining != null) {
+                collect(remaining, terms, limit, budget, best);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<SearchResultDTO> results = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            results.add(best.poll().toDTO());
+        }
+        return results.reversed();
+    }
+
+    /**
+     * Scores up to {@code budget} of the given documents into the bounded heap of best matches.
+     *
+     * @return The number of documents scored.
+     */
+    private int collect(RoaringBitmap ordinals, List<String> terms, int limit, int budget, PriorityQueue<Match> best) {
+        PeekableIntIterator iterator = ordinals.getIntIterator();
+        int scanned = 0;
+        for (; iterator.hasNext() && scanned < budget; scanned++) {
+            Document document = contents.documents.get(iterator.next());
+            int score = score(document, terms);
+            // Most candidates of a broad query cannot enter a full heap; skip them before building a Match
+            if (score == 0 || (best.size() == limit && score < best.peek().score())) {
+                continue;
+            }
+            best.add(new Match(document, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        return scanned;
+    }
+
+    /**
+     * Upper bound on the score of a document in which some term does not start a word of the name: that term
+     * scores at most an exact email/subject match or a weighted substring match of the name.
+     */
+    private static int maxScoreWithoutNamePrefix(int termCount) {
+        return (termCount - 1) * NAME_WEIGHT * SCORE_EXACT + Math.max(SCORE_EXACT, NAME_WEIGHT * SCORE_CONTAINS);
+    }
+
+    public void studentSaved(Student student) {
+        Document document = new Document(SearchEntityType.STUDENT, student.getId(), student.getName(), student.getEmail());
+        TransactionCallbacks.afterCommit(() -> write(c -> c.put(document)));
+    }
+
+    public void studentsSaved(Collection<Student> students) {
+        List<Document> documents = students.stream()
+                .map(s -> new Document(SearchEntityType.STUDENT, s.getId(), s.getName(), s.getEmail()))
+                .toList();
+        TransactionCallbacks.afterCommit(() -> write(c -> documents.forEach(c::put)));
+    }
+
+    public void studentRemoved(Long studentId) {
+        TransactionCallbacks.afterCommit(() -> write(c -> c.remove(SearchEntityType.STUDENT, studentId)));
+    }
+
+    public void teacherSaved(Teacher teacher) {
+        Document document = new Document(SearchEntityType.TEACHER, teacher.getId(), teacher.getName(), teacher.getSubject());
+        TransactionCallbacks.afterCommit(() -> write(c -> c.put(document)));
+    }
+
+    public void teacherRemoved(Long teacherId) {
+        TransactionCallbacks.afterCommit(() -> write(c -> c.remove(SearchEntityType.TEACHER, teacherId)));
+    }
+
+    private void write(Consumer<Contents> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(contents);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return The document's score for the query, or 0 when some term does not really occur in it.
+     */
+    private static int score(Document document, List<String> terms) {
+        int total = 0;
+        for (String term : terms) {
+            int termScore = Math.max(NAME_WEIGHT * score(document.normalizedName(), term),
+                    score(document.normalizedDetail(), term));
+            // Short terms are looked up by word prefix only, so a match in the middle of a word does not count
+            if (termScore == 0 || (term.length() < 3 && termScore < SCORE_WORD_PREFIX)) {
+                return 0;
+            }
+            total += termScore;
+        }
+        return total;
+    }
+
+    private static int score(String text, String term) {
+        if (text.equals(term)) {
+            return SCORE_EXACT;
+        }
+        if (text.startsWith(term)) {
+            return SCORE_PREFIX;
+        }
+        int i = text.indexOf(term, 1);
+        if (i < 0) {
+            return 0;
+        }
+        for (; i > 0; i = text.indexOf(term, i + 1)) {
+            if (!Character.isLetterOrDigit(text.charAt(i - 1))) {
+                return SCORE_WORD_PREFIX;
+            }
+        }
+        return SCORE_CONTAINS;
+    }
+
+    /**
+     * Lowercases the text and strips accents, so "José" and "jose" index alike.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) >= 0x80) {
+                return COMBINING_MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+        return lower;
+    }
+
+    static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Grams a document is indexed under: the first one and two characters of each word, marked with {@code ^}
+     * (which never occurs inside a word), and every trigram. Words of the name are also indexed by their first one
+     * to three characters marked with {@code <}, see {@link #namePrefixGram(String)}.
+     */
+    static void documentGrams(String normalized, boolean name, Consumer<String> grams) {
+        for (String word : words(normalized)) {
+            grams.accept("^" + word.charAt(0));
+            if (word.length() >= 2) {
+                grams.accept("^" + word.substring(0, 2));
+            }
+            for (int i = 0; i + 3 <= word.length(); i++) {
+                grams.accept(word.substring(i, i + 3));
+            }
+            if (name) {
+                for (int length = 1; length <= Math.min(3, word.length()); length++) {
+                    grams.accept("<" + word.substring(0, length));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gram held by every document with a word of the name starting with the term.
+     */
+    static String namePrefixGram(String term) {
+        return "<" + term.substring(0, Math.min(3, term.length()));
+    }
+
+    /**
+     * Grams a document must have to contain the term.
+     */
+    static List<String> queryGrams(String term) {
+        if (term.length() < 3) {
+            return List.of("^" + term);
+        }
+        List<String> grams = new ArrayList<>(term.length() - 2);
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            grams.add(term.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private record Document(SearchEntityType type, long id, String name, String detail,
+                            String normalizedName, String normalizedDetail) {
+
+        Document(SearchEntityType type, long id, String name, String detail) {
+            this(type, id, name, detail, normalize(name), normalize(detail));
+        }
+    }
+
+    private record Match(Document document, int score) {
+
+        SearchResultDTO toDTO() {
+            return new SearchResultDTO(document.type(), document.id(), document.name(), document.detail(), score);
+        }
+    }
+
+    /**
+     * Documents by ordinal and the posting lists over those ordinals. Ordinals of removed documents are left empty
+     * rather than reused; a rebuild compacts them.
+     */
+    private static final class Contents {
+
+        private final List<Document> documents = new ArrayList<>();
+        private final Map<SearchEntityType, Map<Long, Integer>> ordinals = new EnumMap<>(SearchEntityType.class);
+        private final Map<SearchEntityType, RoaringBitmap> ordinalsByType = new EnumMap<>(SearchEntityType.class);
+        private final Map<String, RoaringBitmap> postings = new HashMap<>();
+
+        Contents() {
+            for (SearchEntityType type : SearchEntityType.values()) {
+                ordinals.put(type, new HashMap<>());
+                ordinalsByType.put(type, new RoaringBitmap());
+            }
+        }
+
+        int size() {
+            return ordinals.values().stream().mapToInt(Map::size).sum();
+        }
+
+        void put(Document document) {
+            Integer ordinal = ordinals.get(document.type()).get(document.id());
+            if (ordinal == null) {
+                ordinal = documents.size();
+                documents.add(document);
+                ordinals.get(document.type()).put(document.id(), ordinal);
+                ordinalsByType.get(document.type()).add(ordinal);
+            } else {
+                unindex(documents.get(ordinal), ordinal);
+                documents.set(ordinal, document);
+            }
+            int value = ordinal;
+            Consumer<String> addition = gram -> postings.computeIfAbsent(gram, g -> new RoaringBitmap()).add(value);
+            documentGrams(document.normalizedName(), true, addition);
+            documentGrams(document.normalizedDetail(), false, addition);
+        }
+
+        void remove(SearchEntityType type, long id) {
+            Integer ordinal = ordinals.get(type).remove(id);
+            if (ordinal != null) {
+                unindex(documents.get(ordinal), ordinal);
+                documents.set(ordinal, null);
+                ordinalsByType.get(type).remove(ordinal);
+            }
+        }
+
+        private void unindex(Document document, int ordinal) {
+            Consumer<String> removal = gram -> postings.computeIfPresent(gram, (g, bitmap) -> {
+                bitmap.remove(ordinal);
+                return bitmap.isEmpty() ? null : bitmap;
+            });
+            documentGrams(document.normalizedName(), true, removal);
+            documentGrams(document.normalizedDetail(), false, removal);
+        }
+
+        /**
+         * @return Ordinals of the documents with a word of the name starting with every term (judged by the first
+         *         three characters), or {@code null} if there are none. Must only be read, under the read lock.
+         */
+        RoaringBitmap namePrefixed(List<String> terms) {
+            return intersect(terms.stream().map(term -> postings.get(namePrefixGram(term))).toList());
+        }
+
+        /**
+         * @return Ordinals of the documents that have every gram of every term, or {@code null} if there are none.
+         *         May be a posting list itself, so it must only be read, and only under the read lock.
+         */
+        RoaringBitmap candidates(List<String> terms, SearchEntityType type) {
+            List<RoaringBitmap> lists = new ArrayList<>();
+            for (String term : terms) {
+                queryGrams(term).forEach(gram -> lists.add(postings.get(gram)));
+            }
+            if (type != null) {
+                lists.add(ordinalsByType.get(type));
+            }
+            return intersect(lists);
+        }
+
+        /**
+         * Intersects posting lists smallest first; a missing list means no document matches.
+         */
+        private static RoaringBitmap intersect(List<RoaringBitmap> lists) {
+            if (lists.contains(null)) {
+                return null;
+            }
+            List<RoaringBitmap> sorted = new ArrayList<>(lists);
+            sorted.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+            if (sorted.size() == 1) {
+                return sorted.get(0);
+            }
+            RoaringBitmap result = RoaringBitmap.and(sorted.get(0), sorted.get(1));
+            for (int i = 2; i < sorted.size() && !result.isEmpty(); i++) {
+                result.and(sorted.get(i));
+            }
+            return result.isEmpty() ? null : result;
+        }
+    }
+}
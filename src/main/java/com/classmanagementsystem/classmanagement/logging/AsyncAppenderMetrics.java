@@ -0,0 +1,65 @@
+package com.classmanagementsystem.classmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes queue depth, remaining capacity and dropped-event counts of every {@link InstrumentedAsyncAppender}
+ * attached to a logger, tagged by appender name.
+ */
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+    private static final List<Level> DISCARDABLE_LEVELS = List.of(Level.TRACE, Level.DEBUG, Level.INFO);
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return;
+        }
+        for (InstrumentedAsyncAppender appender : findAppenders(loggerContext).values()) {
+            Gauge.builder("logging.async.queue.depth", appender, InstrumentedAsyncAppender::getNumberOfElementsInQueue)
+                    .description("Log events waiting to be written")
+                    .tag("appender", appender.getName())
+                    .register(registry);
+            Gauge.builder("logging.async.queue.remaining", appender, InstrumentedAsyncAppender::getRemainingCapacity)
+                    .description("Free slots in the async log queue")
+                    .tag("appender", appender.getName())
+                    .register(registry);
+            for (Level level : DISCARDABLE_LEVELS) {
+                FunctionCounter.builder("logging.async.dropped", appender, a -> a.getDiscardedCount(level))
+                        .description("Log events dropped because the async queue was nearly full")
+                        .tag("appender", appender.getName())
+                        .tag("level", level.levelStr)
+                        .register(registry);
+            }
+        }
+    }
+
+    private static Map<String, InstrumentedAsyncAppender> findAppenders(LoggerContext loggerContext) {
+        Map<String, InstrumentedAsyncAppender> appenders = new LinkedHashMap<>();
+        for (Logger logger : loggerContext.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof InstrumentedAsyncAppender appender) {
+                    appenders.putIfAbsent(appender.getName(), appender);
+                }
+            }
+        }
+        return appenders;
+    }
+}
@@ -0,0 +1,47 @@
+package com.classmanagementsystem.classmanagement.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback {@link AsyncAppender} that counts the events it drops, so queue pressure can be published as metrics
+ * by {@link AsyncAppenderMetrics}.
+ * <p>
+ * Overflow policy (configured in {@code logback-spring.xml}): events are handed to a bounded queue and written by
+ * a single worker thread. Once the remaining capacity falls below {@code discardingThreshold}, TRACE, DEBUG and
+ * INFO events are dropped and counted here. WARN and ERROR are never dropped; with {@code neverBlock=false} the
+ * caller waits for space instead.
+ */
+public class InstrumentedAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discardedTrace = new LongAdder();
+    private final LongAdder discardedDebug = new LongAdder();
+    private final LongAdder discardedInfo = new LongAdder();
+
+    /**
+     * Only called by {@code AsyncAppenderBase.append} once the queue is below the discarding threshold,
+     * so every {@code true} returned here is a dropped event.
+     */
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discard = super.isDiscardable(event);
+        if (discard) {
+            counterFor(event.getLevel()).increment();
+        }
+        return discard;
+    }
+
+    public long getDiscardedCount(Level level) {
+        return counterFor(level).sum();
+    }
+
+    private LongAdder counterFor(Level level) {
+        if (level.toInt() <= Level.TRACE_INT) {
+            return discardedTrace;
+        }
+        return level.toInt() <= Level.DEBUG_INT ? discardedDebug : discardedInfo;
+    }
+}
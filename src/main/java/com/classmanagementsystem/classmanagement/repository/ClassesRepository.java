@@ -1,10 +1,22 @@
 package com.classmanagementsystem.classmanagement.repository;
 
+import com.classmanagementsystem.classmanagement.dto.ClassSuggestionDTO;
+import com.classmanagementsystem.classmanagement.dto.ClassSummaryDTO;
 import com.classmanagementsystem.classmanagement.entity.Classes;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClassesRepository extends JpaRepository<Classes, Long> {
@@ -16,4 +28,93 @@ public interface ClassesRepository extends JpaRepository<Classes, Long> {
      * @return An Optional containing the class if found, or an empty Optional if not.
      */
     Optional<Classes> findByName(String name);
+
+    /**
+     * Keyset (seek) page query: returns the ids of classes with an id greater than {@code id} in id order.
+     * Unlike an offset page, the cost does not grow with how deep into the table the page starts.
+     * Only ids are selected so that the page limit is applied by the database; the rosters are then
+     * loaded with {@link #findWithRosterByIdInOrderByIdAsc(Collection)}.
+     * @param id The id of the last class on the previous page, 0 for the first page.
+     * @param limit The maximum number of ids to return.
+     * @return Up to {@code limit} class ids in ascending order.
+     */
+    @Query("select c.id from Classes c where c.id > :id order by c.id")
+    List<Long> findIdsByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    /**
+     * Loads a class with its teacher and roster in one query (see {@link Classes#GRAPH_ROSTER}).
+     * @param id The id of the class.
+     * @return An Optional containing the fully loaded class, or an empty Optional if not found.
+     */
+    @EntityGraph(Classes.GRAPH_ROSTER)
+    Optional<Classes> findWithRosterById(Long id);
+
+    /**
+     * Loads the given classes with their teachers and rosters in one query, ordered by id.
+     * @param ids The ids of the classes to load.
+     * @return The classes that exist, ordered by id.
+     */
+    @EntityGraph(Classes.GRAPH_ROSTER)
+    List<Classes> findWithRosterByIdInOrderByIdAsc(Collection<Long> ids);
+
+    /**
+     * Streams every class id in ascending order without materialising the result.
+     * Must be consumed inside a transaction and closed afterwards.
+     * @return A stream of class ids.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select c.id from Classes c order by c.id")
+    Stream<Long> streamAllIds();
+
+    /**
+     * Returns which of the given ids belong to existing classes, without loading the entities.
+     * @param ids The ids to check.
+     * @return The subset of {@code ids} that exist.
+     */
+    @Query("select e.id from Classes e where e.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Lists the classes a student is enrolled in as summaries, without loading entities or rosters.
+     * The lookup starts from {@code class_student.student_id}, which is indexed (see {@link Classes}).
+     * @param studentId The id of the student.
+     * @return Summaries of the student's classes, ordered by id.
+     */
+    @Query("select new com.classmanagementsystem.classmanagement.dto.ClassSummaryDTO(c.id, c.name, t.id, t.name) "
+            + "from Classes c join c.students s left join c.teacher t where s.id = :studentId order by c.id")
+    List<ClassSummaryDTO> findSummariesByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * Lists the id and name of every class, for loading the class name index.
+     * @return The id and name of every class, in no particular order.
+     */
+    @Query("select new com.classmanagementsystem.classmanagement.dto.ClassSuggestionDTO(c.id, c.name) from Classes c")
+    List<ClassSuggestionDTO> findAllNames();
+
+    /**
+     * Reads the versions that together determine the representation of a class with its teacher and roster,
+     * without loading any entity (see {@link RosterVersion}).
+     * @param id The id of the class.
+     * @return The versions, or an empty Optional if the class does not exist.
+     */
+    @Query("select c.version as classVersion, t.version as teacherVersion, count(s) as studentCount, "
+            + "coalesce(sum(s.version), 0) as studentVersionSum "
+            + "from Classes c left join c.teacher t left join c.students s where c.id = :id group by c.version, t.version")
+    Optional<RosterVersion> findRosterVersionById(@Param("id") Long id);
+
+    /**
+     * Versions of a class, its teacher and its students. The class version changes whenever the class row, its
+     * teacher assignment or its roster changes; student versions only grow, so an edit to any enrolled student
+     * changes the sum.
+     */
+    interface RosterVersion {
+
+        long getClassVersion();
+
+        Long getTeacherVersion();
+
+        long getStudentCount();
+
+        long getStudentVersionSum();
+    }
 }
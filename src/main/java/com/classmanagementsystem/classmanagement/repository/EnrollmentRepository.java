@@ -0,0 +1,125 @@
+package com.classmanagementsystem.classmanagement.repository;
+
+import com.classmanagementsystem.classmanagement.dto.EnrollmentDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Set-based access to the {@code class_student} join table owned by {@code Classes.students}.
+ * Writing rows directly avoids loading and re-saving the whole {@code Classes} aggregate for each enrollment.
+ * Because Hibernate does not see these writes, every change to a roster also increments the version of its class,
+ * as Hibernate would when the collection itself changes.
+ */
+@Repository
+public class EnrollmentRepository {
+
+    private static final String INSERT_SQL = "insert into class_student (class_id, student_id) values (?, ?)";
+    private static final String EXISTS_SQL = "select count(*) from class_student where class_id = ? and student_id = ?";
+    private static final String DELETE_SQL = "delete from class_student where class_id = ? and student_id = ?";
+    private static final String BUMP_VERSION_SQL = "update classes set version = version + 1 where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final int batchSize;
+
+    public EnrollmentRepository(JdbcTemplate jdbcTemplate,
+                                @Value("${classmanagement.enrollment.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Finds which of the given class/student pairs already have a row in the join table.
+     * @param classIds The class ids of the candidate pairs.
+     * @param studentIds The student ids of the candidate pairs.
+     * @return Every existing pair whose class and student are both among the given ids.
+     */
+    public Set<EnrollmentDTO> findExisting(Collection<Long> classIds, Collection<Long> studentIds) {
+        if (classIds.isEmpty() || studentIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("classIds", classIds)
+                .addValue("studentIds", studentIds);
+        return new HashSet<>(namedParameterJdbcTemplate.query(
+                "select class_id, student_id from class_student where class_id in (:classIds) and student_id in (:studentIds)",
+                params,
+                (rs, rowNum) -> new EnrollmentDTO(rs.getLong("class_id"), rs.getLong("student_id"))));
+    }
+
+    /**
+     * Inserts the given pairs using JDBC batches of {@code classmanagement.enrollment.batch-size} rows.
+     * Callers are responsible for filtering out pairs that already exist.
+     * The version of each affected class is incremented once.
+     * @param enrollments The pairs to insert.
+     */
+    public void insertAll(List<EnrollmentDTO> enrollments) {
+        if (enrollments.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, enrollments, batchSize, (ps, enrollment) -> {
+            ps.setLong(1, enrollment.getClassId());
+            ps.setLong(2, enrollment.getStudentId());
+        });
+        List<Long> classIds = enrollments.stream().map(EnrollmentDTO::getClassId).distinct().toList();
+        jdbcTemplate.batchUpdate(BUMP_VERSION_SQL, classIds, batchSize, (ps, classId) -> ps.setLong(1, classId));
+    }
+
+    /**
+     * Inserts a single pair unless it is already present. The join table's primary key on
+     * (class_id, student_id) backs up the existence check when two requests race for the same pair.
+     * @param classId The class id.
+     * @param studentId The student id.
+     * @return {@code true} if a row was inserted, {@code false} if the student was already enrolled.
+     */
+    public boolean insertIfAbsent(Long classId, Long studentId) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, classId, studentId);
+        if (count != null && count > 0) {
+            return false;
+        }
+        try {
+            if (jdbcTemplate.update(INSERT_SQL, classId, studentId) != 1) {
+                return false;
+            }
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        jdbcTemplate.update(BUMP_VERSION_SQL, classId);
+        return true;
+    }
+
+    /**
+     * Deletes a single pair from the join table.
+     * @param classId The class id.
+     * @param studentId The student id.
+     * @return {@code true} if a row was deleted.
+     */
+    public boolean delete(Long classId, Long studentId) {
+        if (jdbcTemplate.update(DELETE_SQL, classId, studentId) == 0) {
+            return false;
+        }
+        jdbcTemplate.update(BUMP_VERSION_SQL, classId);
+        return true;
+    }
+
+    /**
+     * Streams every pair in the join table without materializing the result.
+     * @param consumer Receives the class id and student id of each row.
+     */
+    public void forEach(BiConsumer<Long, Long> consumer) {
+        jdbcTemplate.query("select class_id, student_id from class_student",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong("class_id"), rs.getLong("student_id")));
+    }
+}
@@ -1,12 +1,23 @@
 package com.classmanagementsystem.classmanagement.repository;
 
 import com.classmanagementsystem.classmanagement.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+
+    /**
+     * Finds a role by its name. The result goes through the query cache and the role through the second-level cache,
+     * so repeated lookups, e.g. of {@code ROLE_USER} on every registration, do not reach the database.
+     * @param name The name of the role, e.g. {@code ROLE_USER}.
+     * @return An Optional containing the role if found, or an empty Optional if not.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(String name);
 }
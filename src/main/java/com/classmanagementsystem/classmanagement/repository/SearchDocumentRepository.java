@@ -0,0 +1,43 @@
+package com.classmanagementsystem.classmanagement.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Streams the searchable columns of students and teachers for building the in-memory search index,
+ * without loading entities into a persistence context.
+ */
+@Repository
+public class SearchDocumentRepository {
+
+    /**
+     * Receives one row: the entity id, its display name and the secondary searchable field.
+     */
+    @FunctionalInterface
+    public interface DocumentConsumer {
+        void accept(long id, String name, String detail);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchDocumentRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param consumer Receives the id, name and email of every student.
+     */
+    public void forEachStudent(DocumentConsumer consumer) {
+        jdbcTemplate.query("select id, name, email from student",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong("id"), rs.getString("name"), rs.getString("email")));
+    }
+
+    /**
+     * @param consumer Receives the id, name and subject of every teacher.
+     */
+    public void forEachTeacher(DocumentConsumer consumer) {
+        jdbcTemplate.query("select id, name, subject from teacher",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong("id"), rs.getString("name"), rs.getString("subject")));
+    }
+}
@@ -1,9 +1,14 @@
 package com.classmanagementsystem.classmanagement.repository;
 
 import com.classmanagementsystem.classmanagement.entity.Student;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +21,28 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @return An Optional containing the student if found, or an empty Optional if not.
      */
     Optional<Student> findByEmail(String email);
+
+    /**
+     * Finds the next page of students after the given id, ordered by id.
+     * @param id The id of the last student on the previous page, 0 for the first page.
+     * @param limit The maximum number of students to return.
+     * @return Up to {@code limit} students ordered by id.
+     */
+    List<Student> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Returns which of the given ids belong to existing students, without loading the entities.
+     * @param ids The ids to check.
+     * @return The subset of {@code ids} that exist.
+     */
+    @Query("select e.id from Student e where e.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reads only the version of a student, for answering conditional requests without loading the entity.
+     * @param id The id of the student.
+     * @return The student's version, or an empty Optional if not found.
+     */
+    @Query("select s.version from Student s where s.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
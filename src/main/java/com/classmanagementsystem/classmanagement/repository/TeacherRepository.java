@@ -1,10 +1,14 @@
 package com.classmanagementsystem.classmanagement.repository;
 
 import com.classmanagementsystem.classmanagement.entity.Teacher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TeacherRepository extends JpaRepository<Teacher, Long> {
@@ -16,4 +20,20 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
      * @return A list of teachers with the matching name.
      */
     List<Teacher> findByName(String name);
+
+    /**
+     * Finds the next page of teachers after the given id, ordered by id.
+     * @param id The id of the last teacher on the previous page, 0 for the first page.
+     * @param limit The maximum number of teachers to return.
+     * @return Up to {@code limit} teachers ordered by id.
+     */
+    List<Teacher> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Reads only the version of a teacher, for answering conditional requests without loading the entity.
+     * @param id The id of the teacher.
+     * @return The teacher's version, or an empty Optional if not found.
+     */
+    @Query("select t.version from Teacher t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
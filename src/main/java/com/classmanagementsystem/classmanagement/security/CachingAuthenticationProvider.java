@@ -0,0 +1,126 @@
+package com.classmanagementsystem.classmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers successful username/password checks for a short time so repeated requests with the same
+ * credentials skip both the user lookup and the BCrypt comparison of the delegate provider.
+ * <p>
+ * Entries are keyed by an HMAC of the submitted username and password under a random per-process key, and the
+ * cached {@link CustomUserDetails} has its credentials erased before it is stored, so the cache holds neither the
+ * password nor its stored hash. Account status (locked, disabled, expired) is checked again on every hit. The cache
+ * is bounded in size and entries expire after a fixed time; {@link #evictUser(Long)} must be called whenever a user
+ * changes, since a hit reflects the user as it was when the entry was cached.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String DIGEST_ALGORITHM = "HmacSHA256";
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, CustomUserDetails> cache;
+    private final SecretKeySpec digestKey;
+    private final UserDetailsChecker userDetailsChecker;
+    // Bumped on every eviction so a lookup that raced with it does not re-insert stale details
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, long maximumSize, Duration timeToLive) {
+        this(delegate, maximumSize, timeToLive, Ticker.systemTicker(), new AccountStatusUserDetailsChecker());
+    }
+
+    CachingAuthenticationProvider(AuthenticationProvider delegate, long maximumSize, Duration timeToLive, Ticker ticker,
+                                  UserDetailsChecker userDetailsChecker) {
+        this.delegate = delegate;
+        this.userDetailsChecker = userDetailsChecker;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .build();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.digestKey = new SecretKeySpec(key, DIGEST_ALGORITHM);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        String key = digest(authentication.getName(), password);
+        CustomUserDetails cached = cache.getIfPresent(key);
+        if (cached != null) {
+            try {
+                userDetailsChecker.check(cached);
+            } catch (AuthenticationException e) {
+                cache.invalidate(key);
+                throw e;
+            }
+            UsernamePasswordAuthenticationToken result =
+                    UsernamePasswordAuthenticationToken.authenticated(cached, null, cached.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+
+        long generationBefore = generation.get();
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.getPrincipal() instanceof CustomUserDetails userDetails
+                && generation.get() == generationBefore) {
+            // The password was just verified; the hash is not needed again and must not sit in the cache
+            userDetails.eraseCredentials();
+            cache.put(key, userDetails);
+            if (generation.get() != generationBefore) {
+                cache.invalidate(key);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    /**
+     * Drops every cached entry for the given user, e.g. after the user was updated or deleted.
+     * @param userId The id of the user whose cached credentials should be discarded.
+     */
+    public void evictUser(Long userId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(userDetails -> userId.equals(userDetails.getId()));
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private String digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(DIGEST_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -1,36 +1,52 @@
 package com.classmanagementsystem.classmanagement.security;
 
 import com.classmanagementsystem.classmanagement.entity.User;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
-public class CustomUserDetails implements UserDetails {
+/**
+ * The authenticated user, copied from the {@link User} entity so that it does not keep the entity (and its password
+ * hash) reachable. {@link #eraseCredentials()} drops the hash once the password has been checked.
+ */
+public class CustomUserDetails implements UserDetails, CredentialsContainer {
 
-    private User user;
+    private final Long id;
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+    private String password;
 
     public CustomUserDetails(User user) {
-        this.user = user;
+        this.id = user.getId();
+        this.username = user.getUsername(); // Or user.getEmail() if you prefer login by email
+        this.password = user.getPassword();
+        this.authorities = user.getRoles().stream()
+                .map(role -> new SimpleGrantedAuthority(role.getName()))
+                .collect(Collectors.toList());
+    }
+
+    public Long getId() {
+        return id;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority(role.getName()))
-                .collect(Collectors.toList());
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername(); // Or user.getEmail() if you prefer login by email
+        return username;
     }
 
     @Override
@@ -52,4 +68,9 @@ public class CustomUserDetails implements UserDetails {
     public boolean isEnabled() {
         return true; // You can implement logic for account enabling/disabling here
     }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
 }
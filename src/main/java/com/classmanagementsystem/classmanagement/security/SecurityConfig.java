@@ -1,18 +1,26 @@
 package com.classmanagementsystem.classmanagement.security;
 
 import com.classmanagementsystem.classmanagement.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import java.time.Clock;
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
@@ -38,17 +46,44 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
-        return configuration.getAuthenticationManager();
+    public CachingAuthenticationProvider authenticationProvider(
+            @Value("${classmanagement.security.credential-cache.max-size:10000}") long maximumSize,
+            @Value("${classmanagement.security.credential-cache.ttl:5m}") Duration timeToLive) {
+        DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider(passwordEncoder());
+        daoAuthenticationProvider.setUserDetailsService(userDetailsService());
+        return new CachingAuthenticationProvider(daoAuthenticationProvider, maximumSize, timeToLive);
+    }
+
+    @Bean
+    public AuthenticationManager authenticationManager(CachingAuthenticationProvider authenticationProvider) {
+        return new ProviderManager(authenticationProvider);
+    }
+
+    @Bean
+    public TokenService tokenService(
+            @Value("${classmanagement.security.token.secret:}") String secret,
+            @Value("${classmanagement.security.token.access-ttl:15m}") Duration accessTokenTtl,
+            @Value("${classmanagement.security.token.refresh-ttl:7d}") Duration refreshTokenTtl) {
+        // No built-in fallback: a secret everyone knows would let anyone forge tokens
+        if (secret.isBlank()) {
+            throw new IllegalStateException("classmanagement.security.token.secret is not set; set the "
+                    + "CLASSMANAGEMENT_TOKEN_SECRET environment variable, or run with the dev profile for local development");
+        }
+        return new TokenService(secret, accessTokenTtl, refreshTokenTtl, Clock.systemUTC());
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authenticationManager,
+                                                   TokenService tokenService) throws Exception {
         http.csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authenticationManager(authenticationManager)
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class)
                 .authorizeHttpRequests(authorize ->
                         authorize.requestMatchers("/api/auth/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll() // Allow registration, login, and Swagger UI
                                 .anyRequest().authenticated()      // Secure all other endpoints
-                );
+                )
+                .httpBasic(Customizer.withDefaults()); // Fallback for clients without a token, verified through the credential cache
         return http.build();
     }
 
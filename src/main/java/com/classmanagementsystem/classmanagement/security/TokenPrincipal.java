@@ -0,0 +1,31 @@
+package com.classmanagementsystem.classmanagement.security;
+
+import java.security.Principal;
+
+/**
+ * Principal of a request authenticated with an access token: the identity carried by the token, without a database lookup.
+ */
+public class TokenPrincipal implements Principal {
+
+    private final Long id;
+    private final String username;
+
+    public TokenPrincipal(Long id, String username) {
+        this.id = id;
+        this.username = username;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
@@ -0,0 +1,153 @@
+package com.classmanagementsystem.classmanagement.security;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Issues and verifies compact HMAC-SHA256 signed tokens of the form {@code base64url(claims).base64url(signature)}.
+ * <p>
+ * Access tokens carry the user id, username and authorities, so a request can be authenticated from the
+ * token alone without touching the database. Refresh tokens are longer lived and can only be exchanged at
+ * {@code /api/auth/refresh}. Every node configured with the same secret accepts tokens issued by any other.
+ */
+public class TokenService {
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {
+    };
+
+    private final SecretKeySpec signingKey;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public TokenService(String secret, Duration accessTokenTtl, Duration refreshTokenTtl, Clock clock) {
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("Token secret must be at least " + MIN_SECRET_BYTES + " bytes long");
+        }
+        this.signingKey = new SecretKeySpec(key, SIGNATURE_ALGORITHM);
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.clock = clock;
+    }
+
+    public String issueAccessToken(CustomUserDetails userDetails) {
+        return issue(TYPE_ACCESS, userDetails, accessTokenTtl);
+    }
+
+    public String issueRefreshToken(CustomUserDetails userDetails) {
+        return issue(TYPE_REFRESH, userDetails, refreshTokenTtl);
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    /**
+     * Verifies an access token and turns it into an authenticated {@link Authentication}.
+     * @param token The bearer token sent by the client.
+     * @return An authentication whose principal is a {@link TokenPrincipal}.
+     * @throws BadCredentialsException if the token is malformed, tampered with, expired or not an access token.
+     */
+    public Authentication authenticate(String token) {
+        Map<String, Object> claims = verify(token, TYPE_ACCESS);
+        @SuppressWarnings("unchecked")
+        List<String> authorities = (List<String>) claims.get("auth");
+        List<GrantedAuthority> grantedAuthorities = authorities.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        TokenPrincipal principal = new TokenPrincipal(((Number) claims.get("uid")).longValue(), (String) claims.get("sub"));
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, grantedAuthorities);
+    }
+
+    /**
+     * Verifies a refresh token.
+     * @param token The refresh token sent by the client.
+     * @return The id of the user the token was issued to.
+     * @throws BadCredentialsException if the token is malformed, tampered with, expired or not a refresh token.
+     */
+    public Long verifyRefreshToken(String token) {
+        return ((Number) verify(token, TYPE_REFRESH).get("uid")).longValue();
+    }
+
+    private String issue(String type, CustomUserDetails userDetails, Duration ttl) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("typ", type);
+        claims.put("uid", userDetails.getId());
+        claims.put("sub", userDetails.getUsername());
+        if (TYPE_ACCESS.equals(type)) {
+            claims.put("auth", userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        }
+        claims.put("exp", clock.instant().plus(ttl).getEpochSecond());
+        try {
+            String payload = encode(objectMapper.writeValueAsBytes(claims));
+            return payload + "." + encode(sign(payload));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize token claims", e);
+        }
+    }
+
+    private Map<String, Object> verify(String token, String expectedType) {
+        int dot = token == null ? -1 : token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            throw new BadCredentialsException("Malformed token");
+        }
+        String payload = token.substring(0, dot);
+        byte[] signature;
+        Map<String, Object> claims;
+        try {
+            signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                throw new BadCredentialsException("Invalid token signature");
+            }
+            claims = objectMapper.readValue(Base64.getUrlDecoder().decode(payload), CLAIMS_TYPE);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new BadCredentialsException("Malformed token", e);
+        }
+        if (!expectedType.equals(claims.get("typ"))) {
+            throw new BadCredentialsException("Wrong token type");
+        }
+        if (!(claims.get("exp") instanceof Number exp) || clock.instant().getEpochSecond() >= exp.longValue()) {
+            throw new BadCredentialsException("Token expired");
+        }
+        return claims;
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(SIGNATURE_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -1,7 +1,12 @@
 package com.classmanagementsystem.classmanagement.service;
 
 import com.classmanagementsystem.classmanagement.dto.LoginDto;
+import com.classmanagementsystem.classmanagement.dto.TokenResponseDTO;
+import com.classmanagementsystem.classmanagement.repository.UserRepository;
+import com.classmanagementsystem.classmanagement.security.CustomUserDetails;
+import com.classmanagementsystem.classmanagement.security.TokenService;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -11,12 +16,16 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 
     private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
 
-    public AuthService(AuthenticationManager authenticationManager) {
+    public AuthService(AuthenticationManager authenticationManager, TokenService tokenService, UserRepository userRepository) {
         this.authenticationManager = authenticationManager;
+        this.tokenService = tokenService;
+        this.userRepository = userRepository;
     }
 
-    public String login(LoginDto loginDto) {
+    public TokenResponseDTO login(LoginDto loginDto) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         loginDto.getUsernameOrEmail(),
@@ -25,6 +34,23 @@ public class AuthService {
         );
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        return "User logged in successfully!"; // In a real app, this would return a JWT
+        return issueTokens((CustomUserDetails) authentication.getPrincipal());
+    }
+
+    public TokenResponseDTO refresh(String refreshToken) {
+        Long userId = tokenService.verifyRefreshToken(refreshToken);
+        // Reload the user so deleted accounts cannot refresh and role changes reach the new access token
+        CustomUserDetails userDetails = userRepository.findById(userId)
+                .map(CustomUserDetails::new)
+                .orElseThrow(() -> new BadCredentialsException("User no longer exists"));
+        return issueTokens(userDetails);
+    }
+
+    private TokenResponseDTO issueTokens(CustomUserDetails userDetails) {
+        return new TokenResponseDTO(
+                tokenService.issueAccessToken(userDetails),
+                tokenService.issueRefreshToken(userDetails),
+                tokenService.getAccessTokenTtl().toSeconds()
+        );
     }
 }
@@ -1,31 +1,83 @@
 package com.classmanagementsystem.classmanagement.service;
 
+import com.classmanagementsystem.classmanagement.cache.ClassesJsonCache;
+import com.classmanagementsystem.classmanagement.concurrency.RequestCoalescer;
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.ClassSuggestionDTO;
 import com.classmanagementsystem.classmanagement.dto.ClassesDTO;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentDTO;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentMembershipDTO;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentResultDTO;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentStatus;
 import com.classmanagementsystem.classmanagement.entity.Classes;
-import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.exception.BadRequestException;
 import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
+import com.classmanagementsystem.classmanagement.index.ClassNameIndex;
+import com.classmanagementsystem.classmanagement.index.EnrollmentIndex;
 import com.classmanagementsystem.classmanagement.mapper.ClassesMapper;
 import com.classmanagementsystem.classmanagement.repository.ClassesRepository;
+import com.classmanagementsystem.classmanagement.repository.EnrollmentRepository;
 import com.classmanagementsystem.classmanagement.repository.StudentRepository;
 import com.classmanagementsystem.classmanagement.serviceinterface.ClassesServiceInterface;
+import com.classmanagementsystem.classmanagement.util.CursorCodec;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ClassesService implements ClassesServiceInterface {
 
+    /**
+     * Number of classes whose rosters are loaded per query while exporting.
+     */
+    static final int EXPORT_CHUNK_SIZE = 500;
+
+    /**
+     * Number of enrollment pairs validated with one set of existence queries during bulk enrollment.
+     */
+    static final int ENROLLMENT_CHUNK_SIZE = 1000;
+
+    /**
+     * Default and maximum number of class name completions.
+     */
+    static final int DEFAULT_SUGGESTION_LIMIT = 10;
+    static final int MAX_SUGGESTION_LIMIT = 50;
+
     private final ClassesRepository classesRepository;
     private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentIndex enrollmentIndex;
+    private final ClassNameIndex classNameIndex;
+    private final ClassesJsonCache classesJsonCache;
     private final ClassesMapper classesMapper;
+    private final RequestCoalescer requestCoalescer;
+    private final EntityManager entityManager;
 
-    public ClassesService(ClassesRepository classesRepository, StudentRepository studentRepository, ClassesMapper classesMapper) {
+    public ClassesService(ClassesRepository classesRepository, StudentRepository studentRepository,
+                          EnrollmentRepository enrollmentRepository, EnrollmentIndex enrollmentIndex,
+                          ClassNameIndex classNameIndex, ClassesJsonCache classesJsonCache, ClassesMapper classesMapper,
+                          RequestCoalescer requestCoalescer, EntityManager entityManager) {
         this.classesRepository = classesRepository;
         this.studentRepository = studentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentIndex = enrollmentIndex;
+        this.classNameIndex = classNameIndex;
+        this.classesJsonCache = classesJsonCache;
         this.classesMapper = classesMapper;
+        this.requestCoalescer = requestCoalescer;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -33,27 +85,112 @@ public class ClassesService implements ClassesServiceInterface {
     public ClassesDTO createClasses(ClassesDTO classesDTO) {
         Classes newClasses = classesMapper.toEntity(classesDTO);
         Classes savedClasses = classesRepository.save(newClasses);
+        classNameIndex.classSaved(savedClasses.getId(), savedClasses.getName());
         return classesMapper.toDTO(savedClasses);
     }
 
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'USER')")
-    public List<ClassesDTO> getAllClasses() {
-        return classesRepository.findAll().stream()
-                .map(classesMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPage<ClassesDTO> getClassesPage(String after, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        long afterId = CursorCodec.decode(after);
+        List<Long> ids = classesRepository.findIdsByIdGreaterThan(afterId, Limit.of(pageSize + 1));
+        List<Classes> rows = ids.isEmpty() ? List.of() : classesRepository.findWithRosterByIdInOrderByIdAsc(ids);
+        return CursorPage.of(rows, pageSize, Classes::getId, classesMapper::toDTO);
+    }
+
+    /**
+     * Loads the requested classes with their teachers and rosters in one query, in the order requested, listing the
+     * ids that do not exist.
+     */
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'USER')")
+    public BatchGetResult<ClassesDTO> getClassesByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchGetResult.resolveIds(ids);
+        return BatchGetResult.of(distinctIds, classesRepository.findWithRosterByIdInOrderByIdAsc(distinctIds),
+                Classes::getId, classesMapper::toDTO);
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'USER')")
+    @Transactional
+    public void exportClasses(Consumer<ClassesDTO> sink) {
+        // Stream ids from a cursor and load rosters chunk by chunk, clearing the persistence
+        // context in between, so memory stays bounded by the chunk size rather than the table size.
+        try (Stream<Long> ids = classesRepository.streamAllIds()) {
+            List<Long> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            Iterator<Long> iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exportChunk(chunk, sink);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                exportChunk(chunk, sink);
+            }
+        }
+    }
+
+    private void exportChunk(List<Long> chunk, Consumer<ClassesDTO> sink) {
+        classesRepository.findWithRosterByIdInOrderByIdAsc(chunk).forEach(classes -> sink.accept(classesMapper.toDTO(classes)));
+        entityManager.clear();
+        chunk.clear();
     }
 
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'USER')")
     public ClassesDTO getClassesById(Long id) {
-        Classes classes = classesRepository.findById(id)
+        // Concurrent reads of the same class share one roster load
+        return requestCoalescer.execute("classes", id, () -> loadClasses(id));
+    }
+
+    private ClassesDTO loadClasses(Long id) {
+        Classes classes = classesRepository.findWithRosterById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Classes", "id", id));
         return classesMapper.toDTO(classes);
     }
 
+    /**
+     * The body of {@code GET /api/classes/{id}} as JSON, served from {@link ClassesJsonCache} while the class's
+     * entity tag is unchanged.
+     * @param id The id of the class.
+     * @param eTag The current entity tag of the class, from {@link #getClassesETag(Long)}.
+     */
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'USER')")
+    public byte[] getClassesJson(Long id, String eTag) {
+        // A burst of reads of a class that is not cached yet loads and encodes it once
+        return requestCoalescer.execute("classes.json", id + "/" + eTag,
+                () -> classesJsonCache.get(id, eTag, () -> loadClasses(id)));
+    }
+
+    /**
+     * The entity tag of {@code GET /api/classes/{id}}. The response embeds the teacher and students, so the tag
+     * combines the class version with the teacher's version and the number and version sum of the students,
+     * all read by one aggregate query without loading any entity.
+     */
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'USER')")
+    public String getClassesETag(Long id) {
+        ClassesRepository.RosterVersion version = classesRepository.findRosterVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Classes", "id", id));
+        return version.getClassVersion() + "-" + (version.getTeacherVersion() == null ? "x" : version.getTeacherVersion())
+                + "-" + version.getStudentCount() + "-" + version.getStudentVersionSum();
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'USER')")
+    public List<ClassSuggestionDTO> suggestClasses(String prefix, Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("Suggestion limit must be at least 1");
+        }
+        return classNameIndex.suggest(prefix, limit == null ? DEFAULT_SUGGESTION_LIMIT : Math.min(limit, MAX_SUGGESTION_LIMIT));
+    }
+
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+    @Transactional
     public ClassesDTO updateClasses(Long id, ClassesDTO classesDTO) {
         Classes existingClasses = classesRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Classes", "id", id));
@@ -63,29 +200,122 @@ public class ClassesService implements ClassesServiceInterface {
         // For simplicity, we are not updating nested objects directly via the updateClasses DTO for now.
 
         Classes updatedClasses = classesRepository.save(existingClasses);
+        classNameIndex.classSaved(updatedClasses.getId(), updatedClasses.getName());
+        classesJsonCache.evict(id);
         return classesMapper.toDTO(updatedClasses);
     }
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional
     public void deleteClasses(Long id) {
         Classes classes = classesRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Classes", "id", id));
         classesRepository.delete(classes);
+        enrollmentIndex.classRemoved(id);
+        classNameIndex.classRemoved(id);
+        classesJsonCache.evict(id);
     }
 
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
     @Transactional
     public ClassesDTO enrollStudentInClasses(Long classesId, Long studentId) {
-        Classes existingClasses = classesRepository.findById(classesId)
-                .orElseThrow(() -> new ResourceNotFoundException("Classes", "id", classesId));
+        // Only the join row is written, so the cost of the write does not grow with the size of the roster
+        if (!classesRepository.existsById(classesId)) {
+            throw new ResourceNotFoundException("Classes", "id", classesId);
+        }
+        // Looked up by id rather than counted, so a cached student is found in the second-level cache
+        if (studentRepository.findById(studentId).isEmpty()) {
+            throw new ResourceNotFoundException("Student", "id", studentId);
+        }
 
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Student", "id", studentId));
+        if (enrollmentRepository.insertIfAbsent(classesId, studentId)) {
+            classesJsonCache.evict(classesId);
+        }
+        enrollmentIndex.enrolled(classesId, studentId);
+        // The class with its roster, including the new row, in one query
+        return loadClasses(classesId);
+    }
 
-        existingClasses.getStudents().add(student);
-        Classes savedClasses = classesRepository.save(existingClasses);
-        return classesMapper.toDTO(savedClasses);
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+    @Transactional
+    public void unenrollStudentFromClasses(Long classesId, Long studentId) {
+        if (enrollmentRepository.delete(classesId, studentId)) {
+            enrollmentIndex.unenrolled(classesId, studentId);
+            classesJsonCache.evict(classesId);
+            return;
+        }
+        // Nothing was deleted: report missing resources, otherwise treat as already unenrolled
+        if (!classesRepository.existsById(classesId)) {
+            throw new ResourceNotFoundException("Classes", "id", classesId);
+        }
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("Student", "id", studentId);
+        }
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+    @Transactional
+    public List<EnrollmentResultDTO> enrollStudentsInClasses(List<EnrollmentDTO> enrollments) {
+        List<EnrollmentResultDTO> results = new ArrayList<>(enrollments.size());
+        Set<EnrollmentDTO> seen = new HashSet<>();
+        for (int from = 0; from < enrollments.size(); from += ENROLLMENT_CHUNK_SIZE) {
+            List<EnrollmentDTO> chunk = enrollments.subList(from, Math.min(from + ENROLLMENT_CHUNK_SIZE, enrollments.size()));
+            results.addAll(enrollChunk(chunk, seen));
+        }
+        return results;
+    }
+
+    private List<EnrollmentResultDTO> enrollChunk(List<EnrollmentDTO> chunk, Set<EnrollmentDTO> seen) {
+        // Three set-based lookups per chunk instead of loading a class, a student and a roster per pair
+        Set<Long> classIds = new HashSet<>(classesRepository.findExistingIds(
+                chunk.stream().map(EnrollmentDTO::getClassId).collect(Collectors.toSet())));
+        Set<Long> studentIds = new HashSet<>(studentRepository.findExistingIds(
+                chunk.stream().map(EnrollmentDTO::getStudentId).collect(Collectors.toSet())));
+        Set<EnrollmentDTO> alreadyEnrolled = enrollmentRepository.findExisting(classIds, studentIds);
+
+        List<EnrollmentDTO> toInsert = new ArrayList<>();
+        List<EnrollmentResultDTO> results = new ArrayList<>(chunk.size());
+        for (EnrollmentDTO enrollment : chunk) {
+            EnrollmentStatus status;
+            if (!seen.add(enrollment)) {
+                status = EnrollmentStatus.DUPLICATE_IN_REQUEST;
+            } else if (!classIds.contains(enrollment.getClassId())) {
+                status = EnrollmentStatus.CLASS_NOT_FOUND;
+            } else if (!studentIds.contains(enrollment.getStudentId())) {
+                status = EnrollmentStatus.STUDENT_NOT_FOUND;
+            } else if (alreadyEnrolled.contains(enrollment)) {
+                status = EnrollmentStatus.ALREADY_ENROLLED;
+            } else {
+                toInsert.add(enrollment);
+                status = EnrollmentStatus.ENROLLED;
+            }
+            results.add(new EnrollmentResultDTO(enrollment.getClassId(), enrollment.getStudentId(), status));
+        }
+        enrollmentRepository.insertAll(toInsert);
+        enrollmentIndex.enrolledAll(toInsert);
+        toInsert.stream().map(EnrollmentDTO::getClassId).distinct().forEach(classesJsonCache::evict);
+        return results;
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'USER')")
+    public EnrollmentMembershipDTO getEnrollment(Long classesId, Long studentId) {
+        return new EnrollmentMembershipDTO(classesId, studentId, enrollmentIndex.isEnrolled(classesId, studentId));
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'USER')")
+    public List<Long> getEnrolledStudentIds(Long classesId) {
+        return enrollmentIndex.getStudentIds(classesId);
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'USER')")
+    public List<Long> getSharedStudentIds(Long classesId, Long otherClassesId) {
+        return enrollmentIndex.getSharedStudentIds(classesId, otherClassesId);
     }
 }
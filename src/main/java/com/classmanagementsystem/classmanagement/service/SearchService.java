@@ -0,0 +1,41 @@
+package com.classmanagementsystem.classmanagement.service;
+
+import com.classmanagementsystem.classmanagement.dto.SearchEntityType;
+import com.classmanagementsystem.classmanagement.dto.SearchResultDTO;
+import com.classmanagementsystem.classmanagement.exception.BadRequestException;
+import com.classmanagementsystem.classmanagement.index.SearchIndex;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SearchService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private final SearchIndex searchIndex;
+
+    public SearchService(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Searches student names and emails and teacher names and subjects in the in-memory search index.
+     *
+     * @param query Free text; every word must occur in the name or in the email/subject.
+     * @param limit Maximum number of results (default {@value #DEFAULT_LIMIT}, at most {@value #MAX_LIMIT}).
+     * @param type  Restricts the results to students or teachers, or {@code null} for both.
+     */
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<SearchResultDTO> search(String query, Integer limit, SearchEntityType type) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("Search limit must be at least 1");
+        }
+        return searchIndex.search(query, limit == null ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT), type);
+    }
+}
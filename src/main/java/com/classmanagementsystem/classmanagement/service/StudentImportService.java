@@ -0,0 +1,148 @@
+package com.classmanagementsystem.classmanagement.service;
+
+import com.classmanagementsystem.classmanagement.dto.StudentDTO;
+import com.classmanagementsystem.classmanagement.dto.StudentImportResultDTO;
+import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.index.SearchIndex;
+import com.classmanagementsystem.classmanagement.mapper.StudentMapper;
+import com.classmanagementsystem.classmanagement.repository.StudentRepository;
+import com.classmanagementsystem.classmanagement.util.CsvFormatException;
+import com.classmanagementsystem.classmanagement.util.CsvReader;
+import com.classmanagementsystem.classmanagement.util.CsvRecordTooLongException;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports students from a {@code name,email} CSV stream. Rows are validated against the {@link StudentDTO}
+ * constraints and valid rows are persisted in batches, each batch in its own transaction, so memory use and
+ * transaction size stay bounded however large the upload is. Batches committed before a failure are kept; a
+ * malformed record ends the import with the valid rows before it saved and the record reported as an error. A row
+ * with a field or a total length over the configured limits is rejected without being buffered, and the import
+ * continues after it.
+ */
+@Service
+public class StudentImportService {
+
+    private final StudentRepository studentRepository;
+    private final StudentMapper studentMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final SearchIndex searchIndex;
+    private final int batchSize;
+    private final int maxFieldLength;
+    private final int maxRowLength;
+
+    public StudentImportService(StudentRepository studentRepository, StudentMapper studentMapper, Validator validator,
+                                PlatformTransactionManager transactionManager, EntityManager entityManager,
+                                SearchIndex searchIndex,
+                                @Value("${classmanagement.student-import.batch-size:1000}") int batchSize,
+                                @Value("${classmanagement.student-import.max-field-length:1000}") int maxFieldLength,
+                                @Value("${classmanagement.student-import.max-row-length:2000}") int maxRowLength) {
+        this.studentRepository = studentRepository;
+        this.studentMapper = studentMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.searchIndex = searchIndex;
+        this.batchSize = batchSize;
+        this.maxFieldLength = maxFieldLength;
+        this.maxRowLength = maxRowLength;
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public StudentImportResultDTO importStudents(Reader reader) throws IOException {
+        StudentImportResultDTO result = new StudentImportResultDTO();
+        CsvReader csv = new CsvReader(reader, maxFieldLength, maxRowLength);
+        List<Student> batch = new ArrayList<>(batchSize);
+        boolean firstRecord = true;
+
+        List<String> record;
+        while ((record = readRecord(csv, result)) != null) {
+            long line = csv.getRecordLineNumber();
+            boolean header = firstRecord && isHeader(record);
+            firstRecord = false;
+            if (header || isBlank(record)) {
+                continue;
+            }
+            if (record.size() != 2) {
+                result.reject(line, "Expected 2 columns (name,email) but found " + record.size());
+                continue;
+            }
+
+            StudentDTO studentDTO = new StudentDTO(null, record.get(0), record.get(1));
+            Set<ConstraintViolation<StudentDTO>> violations = validator.validate(studentDTO);
+            if (!violations.isEmpty()) {
+                result.reject(line, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted(Comparator.naturalOrder())
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+
+            batch.add(studentMapper.toEntity(studentDTO));
+            if (batch.size() >= batchSize) {
+                persist(batch);
+                result.addAccepted(batch.size());
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            persist(batch);
+            result.addAccepted(batch.size());
+        }
+        return result;
+    }
+
+    /**
+     * @return the next record, or {@code null} at end of input or at a malformed record, which is recorded in
+     *         the result so the client can tell how far the import got. Rows over the length limits are rejected
+     *         and skipped.
+     */
+    private static List<String> readRecord(CsvReader csv, StudentImportResultDTO result) throws IOException {
+        while (true) {
+            try {
+                return csv.readRecord();
+            } catch (CsvRecordTooLongException e) {
+                result.reject(e.getLineNumber(), e.getMessage());
+            } catch (CsvFormatException e) {
+                result.stop(e.getLineNumber(), "Malformed CSV, rows after this line were not read: " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    private void persist(List<Student> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            studentRepository.saveAll(batch);
+            searchIndex.studentsSaved(batch);
+            // Flush the JDBC batch and drop the managed entities so the persistence context does not grow per batch
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private static boolean isHeader(List<String> record) {
+        return record.size() == 2
+                && "name".equalsIgnoreCase(record.get(0))
+                && "email".equalsIgnoreCase(record.get(1));
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+}
@@ -1,15 +1,27 @@
 package com.classmanagementsystem.classmanagement.service;
 
+import com.classmanagementsystem.classmanagement.concurrency.BatchLoader;
+import com.classmanagementsystem.classmanagement.concurrency.RequestCoalescer;
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.ClassSummaryDTO;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.StudentDTO;
 import com.classmanagementsystem.classmanagement.entity.Student;
 import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
+import com.classmanagementsystem.classmanagement.index.EnrollmentIndex;
+import com.classmanagementsystem.classmanagement.index.SearchIndex;
 import com.classmanagementsystem.classmanagement.mapper.StudentMapper;
+import com.classmanagementsystem.classmanagement.repository.ClassesRepository;
 import com.classmanagementsystem.classmanagement.repository.StudentRepository;
 import com.classmanagementsystem.classmanagement.serviceinterface.StudentServiceInterface;
+import com.classmanagementsystem.classmanagement.util.CursorCodec;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,10 +29,22 @@ public class StudentService implements StudentServiceInterface {
 
     private final StudentRepository studentRepository;
     private final StudentMapper studentMapper;
+    private final ClassesRepository classesRepository;
+    private final EnrollmentIndex enrollmentIndex;
+    private final SearchIndex searchIndex;
+    private final RequestCoalescer requestCoalescer;
+    private final BatchLoader batchLoader;
 
-    public StudentService(StudentRepository studentRepository, StudentMapper studentMapper) {
+    public StudentService(StudentRepository studentRepository, StudentMapper studentMapper,
+                          ClassesRepository classesRepository, EnrollmentIndex enrollmentIndex,
+                          SearchIndex searchIndex, RequestCoalescer requestCoalescer, BatchLoader batchLoader) {
         this.studentRepository = studentRepository;
         this.studentMapper = studentMapper;
+        this.classesRepository = classesRepository;
+        this.enrollmentIndex = enrollmentIndex;
+        this.searchIndex = searchIndex;
+        this.requestCoalescer = requestCoalescer;
+        this.batchLoader = batchLoader;
     }
 
     @Override
@@ -28,23 +52,59 @@ public class StudentService implements StudentServiceInterface {
     public StudentDTO createStudent(StudentDTO studentDTO) {
         Student student = studentMapper.toEntity(studentDTO);
         Student savedStudent = studentRepository.save(student);
+        searchIndex.studentSaved(savedStudent);
         return studentMapper.toDTO(savedStudent);
     }
 
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public List<StudentDTO> getAllStudents() {
-        return studentRepository.findAll().stream()
-                .map(studentMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPage<StudentDTO> getStudentsPage(String after, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        long afterId = CursorCodec.decode(after);
+        return CursorPage.of(studentRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1)),
+                pageSize, Student::getId, studentMapper::toDTO);
+    }
+
+    /**
+     * Loads the requested students with one query, in the order requested, listing the ids that do not exist.
+     */
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public BatchGetResult<StudentDTO> getStudentsByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchGetResult.resolveIds(ids);
+        return BatchGetResult.of(distinctIds, studentRepository.findAllById(distinctIds),
+                Student::getId, studentMapper::toDTO);
     }
 
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     public StudentDTO getStudentById(Long id) {
-        Student student = studentRepository.findById(id)
+        // Concurrent reads of the same student share one load, and concurrent reads of different students one query
+        return requestCoalescer.execute("student", id, () ->
+                Optional.ofNullable(batchLoader.load("student", id, this::loadStudents))
+                        .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id)));
+    }
+
+    /**
+     * Loads a batch of students for {@link #getStudentById(Long)}. A lone id is read with {@code findById}, which the
+     * second-level cache can answer; {@code findAllById} is a query and always reaches the database.
+     */
+    private Map<Long, StudentDTO> loadStudents(List<Long> ids) {
+        List<Student> students = ids.size() == 1
+                ? studentRepository.findById(ids.get(0)).stream().toList()
+                : studentRepository.findAllById(ids);
+        return students.stream().collect(Collectors.toMap(Student::getId, studentMapper::toDTO));
+    }
+
+    /**
+     * @return The entity tag of {@code GET /api/students/{id}}: the student's version, read without loading it.
+     */
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public String getStudentETag(Long id) {
+        return studentRepository.findVersionById(id)
+                .map(String::valueOf)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
-        return studentMapper.toDTO(student);
     }
 
     @Override
@@ -57,6 +117,7 @@ public class StudentService implements StudentServiceInterface {
         existingStudent.setEmail(studentDTO.getEmail());
 
         Student updatedStudent = studentRepository.save(existingStudent);
+        searchIndex.studentSaved(updatedStudent);
         return studentMapper.toDTO(updatedStudent);
     }
 
@@ -66,5 +127,24 @@ public class StudentService implements StudentServiceInterface {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
         studentRepository.delete(student);
+        enrollmentIndex.studentRemoved(id);
+        searchIndex.studentRemoved(id);
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<Long> getEnrolledClassIds(Long id) {
+        return enrollmentIndex.getClassIds(id);
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<ClassSummaryDTO> getClassesOfStudent(Long id) {
+        List<ClassSummaryDTO> classes = classesRepository.findSummariesByStudentId(id);
+        // Only an empty result needs the existence check that tells "no classes" from "no such student"
+        if (classes.isEmpty() && !studentRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Student", "id", id);
+        }
+        return classes;
     }
 }
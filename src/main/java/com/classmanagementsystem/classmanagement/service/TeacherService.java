@@ -1,15 +1,24 @@
 package com.classmanagementsystem.classmanagement.service;
 
+import com.classmanagementsystem.classmanagement.concurrency.BatchLoader;
+import com.classmanagementsystem.classmanagement.concurrency.RequestCoalescer;
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.TeacherDTO;
 import com.classmanagementsystem.classmanagement.entity.Teacher;
 import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
+import com.classmanagementsystem.classmanagement.index.SearchIndex;
 import com.classmanagementsystem.classmanagement.mapper.TeacherMapper;
 import com.classmanagementsystem.classmanagement.repository.TeacherRepository;
 import com.classmanagementsystem.classmanagement.serviceinterface.TeacherServiceInterface;
+import com.classmanagementsystem.classmanagement.util.CursorCodec;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,10 +26,17 @@ public class TeacherService implements TeacherServiceInterface {
 
     private final TeacherRepository teacherRepository;
     private final TeacherMapper teacherMapper;
+    private final SearchIndex searchIndex;
+    private final RequestCoalescer requestCoalescer;
+    private final BatchLoader batchLoader;
 
-    public TeacherService(TeacherRepository teacherRepository, TeacherMapper teacherMapper) {
+    public TeacherService(TeacherRepository teacherRepository, TeacherMapper teacherMapper, SearchIndex searchIndex,
+                          RequestCoalescer requestCoalescer, BatchLoader batchLoader) {
         this.teacherRepository = teacherRepository;
         this.teacherMapper = teacherMapper;
+        this.searchIndex = searchIndex;
+        this.requestCoalescer = requestCoalescer;
+        this.batchLoader = batchLoader;
     }
 
     @Override
@@ -28,23 +44,59 @@ public class TeacherService implements TeacherServiceInterface {
     public TeacherDTO createTeacher(TeacherDTO teacherDTO) {
         Teacher teacher = teacherMapper.toEntity(teacherDTO);
         Teacher savedTeacher = teacherRepository.save(teacher);
+        searchIndex.teacherSaved(savedTeacher);
         return teacherMapper.toDTO(savedTeacher);
     }
 
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public List<TeacherDTO> getAllTeachers() {
-        return teacherRepository.findAll().stream()
-                .map(teacherMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPage<TeacherDTO> getTeachersPage(String after, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        long afterId = CursorCodec.decode(after);
+        return CursorPage.of(teacherRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1)),
+                pageSize, Teacher::getId, teacherMapper::toDTO);
+    }
+
+    /**
+     * Loads the requested teachers with one query, in the order requested, listing the ids that do not exist.
+     */
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public BatchGetResult<TeacherDTO> getTeachersByIds(List<Long> ids) {
+        List<Long> distinctIds = BatchGetResult.resolveIds(ids);
+        return BatchGetResult.of(distinctIds, teacherRepository.findAllById(distinctIds),
+                Teacher::getId, teacherMapper::toDTO);
     }
 
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     public TeacherDTO getTeacherById(Long id) {
-        Teacher teacher = teacherRepository.findById(id)
+        // Concurrent reads of the same teacher share one load, and concurrent reads of different teachers one query
+        return requestCoalescer.execute("teacher", id, () ->
+                Optional.ofNullable(batchLoader.load("teacher", id, this::loadTeachers))
+                        .orElseThrow(() -> new ResourceNotFoundException("Teacher", "id", id)));
+    }
+
+    /**
+     * Loads a batch of teachers for {@link #getTeacherById(Long)}. A lone id is read with {@code findById}, which the
+     * second-level cache can answer; {@code findAllById} is a query and always reaches the database.
+     */
+    private Map<Long, TeacherDTO> loadTeachers(List<Long> ids) {
+        List<Teacher> teachers = ids.size() == 1
+                ? teacherRepository.findById(ids.get(0)).stream().toList()
+                : teacherRepository.findAllById(ids);
+        return teachers.stream().collect(Collectors.toMap(Teacher::getId, teacherMapper::toDTO));
+    }
+
+    /**
+     * @return The entity tag of {@code GET /api/teachers/{id}}: the teacher's version, read without loading it.
+     */
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public String getTeacherETag(Long id) {
+        return teacherRepository.findVersionById(id)
+                .map(String::valueOf)
                 .orElseThrow(() -> new ResourceNotFoundException("Teacher", "id", id));
-        return teacherMapper.toDTO(teacher);
     }
 
     @Override
@@ -57,6 +109,7 @@ public class TeacherService implements TeacherServiceInterface {
         existingTeacher.setSubject(teacherDTO.getSubject());
 
         Teacher updatedTeacher = teacherRepository.save(existingTeacher);
+        searchIndex.teacherSaved(updatedTeacher);
         return teacherMapper.toDTO(updatedTeacher);
     }
 
@@ -66,5 +119,6 @@ public class TeacherService implements TeacherServiceInterface {
         Teacher teacher = teacherRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Teacher", "id", id));
         teacherRepository.delete(teacher);
+        searchIndex.teacherRemoved(id);
     }
 }
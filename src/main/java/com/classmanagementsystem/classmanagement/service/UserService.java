@@ -1,5 +1,6 @@
 package com.classmanagementsystem.classmanagement.service;
 
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.RegisterDto;
 import com.classmanagementsystem.classmanagement.dto.UserDTO;
 import com.classmanagementsystem.classmanagement.entity.Role;
@@ -8,15 +9,16 @@ import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundExcep
 import com.classmanagementsystem.classmanagement.mapper.UserMapper;
 import com.classmanagementsystem.classmanagement.repository.RoleRepository;
 import com.classmanagementsystem.classmanagement.repository.UserRepository;
+import com.classmanagementsystem.classmanagement.security.CachingAuthenticationProvider;
 import com.classmanagementsystem.classmanagement.serviceinterface.UserServiceInterface;
+import com.classmanagementsystem.classmanagement.util.CursorCodec;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 public class UserService implements UserServiceInterface {
@@ -25,15 +27,18 @@ public class UserService implements UserServiceInterface {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final CachingAuthenticationProvider authenticationProvider;
 
     public UserService(UserRepository userRepository,
                        RoleRepository roleRepository,
                        PasswordEncoder passwordEncoder,
-                       UserMapper userMapper) {
+                       UserMapper userMapper,
+                       CachingAuthenticationProvider authenticationProvider) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.userMapper = userMapper;
+        this.authenticationProvider = authenticationProvider;
     }
 
     @Override
@@ -93,6 +98,8 @@ public class UserService implements UserServiceInterface {
         // Password and roles are typically updated via separate methods for security reasons
 
         User updatedUser = userRepository.save(existingUser);
+        // Cached logins still carry the old username/email, so force the next request to re-authenticate
+        authenticationProvider.evictUser(id);
         return userMapper.toDTO(updatedUser);
     }
 
@@ -102,13 +109,15 @@ public class UserService implements UserServiceInterface {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         userRepository.delete(user);
+        authenticationProvider.evictUser(id);
     }
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
-    public List<UserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(userMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPage<UserDTO> getUsersPage(String after, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        long afterId = CursorCodec.decode(after);
+        return CursorPage.of(userRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1)),
+                pageSize, User::getId, userMapper::toDTO);
     }
 }
@@ -1,14 +1,31 @@
 package com.classmanagementsystem.classmanagement.serviceinterface;
 
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.ClassSuggestionDTO;
 import com.classmanagementsystem.classmanagement.dto.ClassesDTO;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentDTO;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentMembershipDTO;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentResultDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ClassesServiceInterface {
     ClassesDTO createClasses(ClassesDTO classesDTO);
-    List<ClassesDTO> getAllClasses();
+    CursorPage<ClassesDTO> getClassesPage(String after, Integer limit);
+    BatchGetResult<ClassesDTO> getClassesByIds(List<Long> ids);
+    void exportClasses(Consumer<ClassesDTO> sink);
     ClassesDTO getClassesById(Long id);
+    String getClassesETag(Long id);
+    byte[] getClassesJson(Long id, String eTag);
+    List<ClassSuggestionDTO> suggestClasses(String prefix, Integer limit);
     ClassesDTO updateClasses(Long id, ClassesDTO classesDTO);
     void deleteClasses(Long id);
     ClassesDTO enrollStudentInClasses(Long classesId, Long studentId);
+    void unenrollStudentFromClasses(Long classesId, Long studentId);
+    List<EnrollmentResultDTO> enrollStudentsInClasses(List<EnrollmentDTO> enrollments);
+    EnrollmentMembershipDTO getEnrollment(Long classesId, Long studentId);
+    List<Long> getEnrolledStudentIds(Long classesId);
+    List<Long> getSharedStudentIds(Long classesId, Long otherClassesId);
 }
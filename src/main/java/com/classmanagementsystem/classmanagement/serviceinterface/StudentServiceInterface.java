@@ -1,13 +1,20 @@
 package com.classmanagementsystem.classmanagement.serviceinterface;
 
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.ClassSummaryDTO;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.StudentDTO;
 
 import java.util.List;
 
 public interface StudentServiceInterface {
     StudentDTO createStudent(StudentDTO studentDTO);
-    List<StudentDTO> getAllStudents();
+    CursorPage<StudentDTO> getStudentsPage(String after, Integer limit);
+    BatchGetResult<StudentDTO> getStudentsByIds(List<Long> ids);
     StudentDTO getStudentById(Long id);
+    String getStudentETag(Long id);
     StudentDTO updateStudent(Long id, StudentDTO studentDTO);
     void deleteStudent(Long id);
+    List<Long> getEnrolledClassIds(Long id);
+    List<ClassSummaryDTO> getClassesOfStudent(Long id);
 }
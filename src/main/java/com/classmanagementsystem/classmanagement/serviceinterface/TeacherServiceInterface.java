@@ -1,13 +1,17 @@
 package com.classmanagementsystem.classmanagement.serviceinterface;
 
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.TeacherDTO;
 
 import java.util.List;
 
 public interface TeacherServiceInterface {
     TeacherDTO createTeacher(TeacherDTO teacherDTO);
-    List<TeacherDTO> getAllTeachers();
+    CursorPage<TeacherDTO> getTeachersPage(String after, Integer limit);
+    BatchGetResult<TeacherDTO> getTeachersByIds(List<Long> ids);
     TeacherDTO getTeacherById(Long id);
+    String getTeacherETag(Long id);
     TeacherDTO updateTeacher(Long id, TeacherDTO teacherDTO);
     void deleteTeacher(Long id);
 }
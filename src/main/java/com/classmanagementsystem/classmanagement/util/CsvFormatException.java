@@ -0,0 +1,24 @@
+package com.classmanagementsystem.classmanagement.util;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link CsvReader} when the input is not valid CSV, as opposed to an {@link IOException} raised while
+ * reading it. The reader cannot continue past it, except past a {@link CsvRecordTooLongException}.
+ */
+public class CsvFormatException extends IOException {
+
+    private final long lineNumber;
+
+    public CsvFormatException(long lineNumber, String message) {
+        super(message);
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * @return the 1-based line on which the malformed record started
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+}
@@ -0,0 +1,157 @@
+package com.classmanagementsystem.classmanagement.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV reader (RFC 4180): comma separated, fields optionally wrapped in double quotes,
+ * {@code ""} as an escaped quote inside a quoted field, and CR, LF or CRLF line endings.
+ * Records are read one at a time so uploads of any size can be processed in constant memory. Fields and records
+ * are bounded in length, so a single huge or unterminated field cannot buffer the rest of the input either.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private final int maxFieldLength;
+    private final int maxRecordLength;
+    private int pending = -2;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+    // Characters of the current record so far, including separators, and why it is being skipped, if it is
+    private int recordLength;
+    private String overLimit;
+
+    /**
+     * @param reader          the source; callers should wrap it in a {@link java.io.BufferedReader}
+     * @param maxFieldLength  the most characters of one field, after unquoting
+     * @param maxRecordLength the most characters of one record, including separators
+     */
+    public CsvReader(Reader reader, int maxFieldLength, int maxRecordLength) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * @return the fields of the next record, or {@code null} at end of input
+     * @throws CsvRecordTooLongException if the record is over a length limit; it is skipped and reading can continue
+     * @throws CsvFormatException        if the record is malformed; no further records can be read
+     */
+    public List<String> readRecord() throws IOException {
+        int c = next();
+        if (c == -1) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+        recordLength = 0;
+        overLimit = null;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldWasQuoted = false;
+        // Whether the unquoted field has anything but whitespace so far; a quote only opens a field that has not
+        boolean fieldHasContent = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new CsvFormatException(recordLineNumber,
+                            "Unterminated quoted field starting on line " + recordLineNumber);
+                }
+                if (c == '"') {
+                    int following = next();
+                    if (following == '"') {
+                        append(fields, field, '"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    append(fields, field, (char) c);
+                }
+            } else if (c == -1 || c == '\n' || c == '\r') {
+                addField(fields, field, fieldWasQuoted);
+                if (c == '\r') {
+                    int following = next();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                if (overLimit != null) {
+                    throw new CsvRecordTooLongException(recordLineNumber,
+                            overLimit + " on line " + recordLineNumber + "; the row was skipped");
+                }
+                return fields;
+            } else if (c == ',') {
+                addField(fields, field, fieldWasQuoted);
+                recordLength++;
+                checkRecordLength(fields, field);
+                field.setLength(0);
+                fieldWasQuoted = false;
+                fieldHasContent = false;
+            } else if (c == '"' && !fieldHasContent) {
+                field.setLength(0);
+                quoted = true;
+                fieldWasQuoted = true;
+            } else {
+                fieldHasContent |= !Character.isWhitespace(c);
+                append(fields, field, (char) c);
+            }
+            c = next();
+        }
+    }
+
+    private void append(List<String> fields, StringBuilder field, char c) {
+        recordLength++;
+        if (overLimit == null && field.length() >= maxFieldLength) {
+            overLimit = "Field longer than " + maxFieldLength + " characters";
+        }
+        checkRecordLength(fields, field);
+        if (overLimit == null) {
+            field.append(c);
+        }
+    }
+
+    private void addField(List<String> fields, StringBuilder field, boolean quoted) {
+        if (overLimit == null) {
+            fields.add(quoted ? field.toString() : field.toString().trim());
+        }
+    }
+
+    /**
+     * Once over a limit the rest of the record is only scanned for its end, and what was kept of it is dropped.
+     */
+    private void checkRecordLength(List<String> fields, StringBuilder field) {
+        if (overLimit == null && recordLength > maxRecordLength) {
+            overLimit = "Row longer than " + maxRecordLength + " characters";
+        }
+        if (overLimit != null) {
+            fields.clear();
+            field.setLength(0);
+        }
+    }
+
+    /**
+     * @return the 1-based line on which the record last returned by {@link #readRecord()} started
+     */
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private int next() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,13 @@
+package com.classmanagementsystem.classmanagement.util;
+
+/**
+ * Thrown by {@link CsvReader} for a record with a field or a total length over its limits. Unlike other
+ * {@link CsvFormatException}s the reader can continue: the record was skipped without being buffered, and the next
+ * call returns the record after it.
+ */
+public class CsvRecordTooLongException extends CsvFormatException {
+
+    public CsvRecordTooLongException(long lineNumber, String message) {
+        super(lineNumber, message);
+    }
+}
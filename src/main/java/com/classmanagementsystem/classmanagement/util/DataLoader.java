@@ -5,6 +5,9 @@ import com.classmanagementsystem.classmanagement.entity.Role;
 import com.classmanagementsystem.classmanagement.entity.Student;
 import com.classmanagementsystem.classmanagement.entity.Teacher;
 import com.classmanagementsystem.classmanagement.entity.User;
+import com.classmanagementsystem.classmanagement.index.ClassNameIndex;
+import com.classmanagementsystem.classmanagement.index.EnrollmentIndex;
+import com.classmanagementsystem.classmanagement.index.SearchIndex;
 import com.classmanagementsystem.classmanagement.repository.ClassesRepository;
 import com.classmanagementsystem.classmanagement.repository.RoleRepository;
 import com.classmanagementsystem.classmanagement.repository.StudentRepository;
@@ -28,19 +31,28 @@ public class DataLoader implements CommandLineRunner {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EnrollmentIndex enrollmentIndex;
+    private final SearchIndex searchIndex;
+    private final ClassNameIndex classNameIndex;
 
     public DataLoader(StudentRepository studentRepository,
                       TeacherRepository teacherRepository,
                       ClassesRepository classesRepository,
                       UserRepository userRepository,
                       RoleRepository roleRepository,
-                      PasswordEncoder passwordEncoder) {
+                      PasswordEncoder passwordEncoder,
+                      EnrollmentIndex enrollmentIndex,
+                      SearchIndex searchIndex,
+                      ClassNameIndex classNameIndex) {
         this.studentRepository = studentRepository;
         this.teacherRepository = teacherRepository;
         this.classesRepository = classesRepository;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.enrollmentIndex = enrollmentIndex;
+        this.searchIndex = searchIndex;
+        this.classNameIndex = classNameIndex;
     }
 
     @Override
@@ -110,6 +122,13 @@ public class DataLoader implements CommandLineRunner {
 
         classesRepository.saveAll(Arrays.asList(mathClass, physicsClass, literatureClass, csClass, chemClass));
 
+        // 6. The in-memory indexes were loaded before this ran; reload them once the new data is committed
+        TransactionCallbacks.afterCommit(() -> {
+            enrollmentIndex.rebuild();
+            searchIndex.rebuild();
+            classNameIndex.rebuild();
+        });
+
         System.out.println("Dummy data loaded successfully!");
     }
 }
@@ -0,0 +1,145 @@
+package com.classmanagementsystem.classmanagement.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LoggingAspectTest {
+
+    private static final Duration SLOW = Duration.ofMillis(500);
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private final Logger aspectLogger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        aspectLogger.addAppender(appender);
+        lenient().when(joinPoint.getSignature()).thenReturn(signature);
+        lenient().when(signature.getDeclaringTypeName()).thenReturn("ClassesService");
+        lenient().when(signature.getName()).thenReturn("getClassesPage");
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspectLogger.detachAppender(appender);
+        aspectLogger.setLevel(null);
+    }
+
+    @Test
+    void timingMode_DoesNotLogFastCallsAtInfo() throws Throwable {
+        aspectLogger.setLevel(Level.INFO);
+        Object argument = mock(Object.class);
+        lenient().when(joinPoint.getArgs()).thenReturn(new Object[]{argument});
+        when(joinPoint.proceed()).thenReturn("result");
+
+        Object result = new LoggingAspect(InstrumentationMode.TIMING, 100, 200, SLOW).logAround(joinPoint);
+
+        assertEquals("result", result);
+        assertTrue(appender.list.isEmpty());
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    void timingMode_LogsFastCallsAtDebug() throws Throwable {
+        aspectLogger.setLevel(Level.DEBUG);
+        when(joinPoint.proceed()).thenReturn("result");
+
+        new LoggingAspect(InstrumentationMode.TIMING, 100, 200, SLOW).logAround(joinPoint);
+
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.DEBUG, appender.list.get(0).getLevel());
+        assertTrue(appender.list.get(0).getFormattedMessage().startsWith("Executed: ClassesService.getClassesPage() in "));
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    void timingMode_LogsSlowCallsAtInfoWithoutRenderingArguments() throws Throwable {
+        aspectLogger.setLevel(Level.INFO);
+        when(joinPoint.proceed()).thenReturn("result");
+
+        new LoggingAspect(InstrumentationMode.TIMING, 100, 200, Duration.ZERO).logAround(joinPoint);
+
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.INFO, appender.list.get(0).getLevel());
+        assertTrue(appender.list.get(0).getFormattedMessage().startsWith("Slow call: ClassesService.getClassesPage() in "));
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    void timingMode_LogsIllegalArgumentAtError() throws Throwable {
+        when(joinPoint.getArgs()).thenReturn(new Object[]{-1L});
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("negative page"));
+        LoggingAspect aspect = new LoggingAspect(InstrumentationMode.TIMING, 100, 200, SLOW);
+
+        assertThrows(IllegalArgumentException.class, () -> aspect.logAround(joinPoint));
+
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.ERROR, appender.list.get(0).getLevel());
+        assertEquals("Illegal argument: -1 in ClassesService.getClassesPage()",
+                appender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void sampledMode_SummarizesCollectionsAndCapsLongValues() throws Throwable {
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"x".repeat(50), 7L});
+        when(joinPoint.proceed()).thenReturn(new ArrayList<>(List.of(1, 2, 3)));
+
+        new LoggingAspect(InstrumentationMode.SAMPLED, 1, 10, SLOW).logAround(joinPoint);
+
+        assertEquals(2, appender.list.size());
+        assertEquals("Entering: ClassesService.getClassesPage() with argument[s] = [xxxxxxxxxx...(40 more chars), 7]",
+                appender.list.get(0).getFormattedMessage());
+        assertTrue(appender.list.get(1).getFormattedMessage()
+                .startsWith("Exiting: ClassesService.getClassesPage() with result = ArrayList[size=3]."));
+    }
+
+    @Test
+    void fullMode_RendersEveryArgumentAndResult() throws Throwable {
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"x".repeat(50)});
+        when(joinPoint.proceed()).thenReturn(List.of(1, 2, 3));
+
+        new LoggingAspect(InstrumentationMode.FULL, 100, 10, SLOW).logAround(joinPoint);
+
+        assertEquals(2, appender.list.size());
+        assertEquals("Entering: ClassesService.getClassesPage() with argument[s] = [" + "x".repeat(50) + "]",
+                appender.list.get(0).getFormattedMessage());
+        assertTrue(appender.list.get(1).getFormattedMessage().contains("with result = [1, 2, 3]"));
+    }
+
+    @Test
+    void argumentSummary_RendersOnlyWhenFormatted() {
+        Object argument = mock(Object.class);
+
+        ArgumentSummary summary = ArgumentSummary.of(argument, 10);
+
+        verifyNoInteractions(argument);
+        assertNotNull(summary.toString());
+        assertEquals("int[4]", ArgumentSummary.of(new int[4], 10).toString());
+        assertEquals("null", ArgumentSummary.of(null, 10).toString());
+    }
+}
@@ -0,0 +1,91 @@
+package com.classmanagementsystem.classmanagement.aop;
+
+import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
+import com.classmanagementsystem.classmanagement.service.ClassesService;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MetricsAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private MockClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsAspect metricsAspect;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        clock = new MockClock();
+        meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        metricsAspect = new MetricsAspect(meterRegistry);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(
+                ClassesService.class.getMethod("enrollStudentInClasses", Long.class, Long.class));
+    }
+
+    @Test
+    void recordLatency_Success_RecordsTimerWithPercentiles() throws Throwable {
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            clock.add(5, TimeUnit.MILLISECONDS);
+            return "result";
+        });
+
+        assertEquals("result", metricsAspect.recordLatency(joinPoint));
+        metricsAspect.recordLatency(joinPoint);
+
+        Timer timer = meterRegistry.get(MetricsAspect.METRIC_NAME)
+                .tag("class", "ClassesService")
+                .tag("method", "enrollStudentInClasses")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(2, timer.count());
+        assertEquals(10, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        ValueAtPercentile[] percentiles = timer.takeSnapshot().percentileValues();
+        assertEquals(3, percentiles.length);
+        assertEquals(0.999, percentiles[2].percentile(), 0.0001);
+    }
+
+    @Test
+    void recordLatency_Failure_CountsErrorByExceptionType() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new ResourceNotFoundException("Classes", "id", 1L));
+
+        assertThrows(ResourceNotFoundException.class, () -> metricsAspect.recordLatency(joinPoint));
+
+        Timer timer = meterRegistry.get(MetricsAspect.METRIC_NAME)
+                .tag("outcome", "error")
+                .tag("exception", "ResourceNotFoundException")
+                .timer();
+        assertEquals(1, timer.count());
+        assertTrue(meterRegistry.find(MetricsAspect.METRIC_NAME).tag("outcome", "success").timers().isEmpty());
+    }
+
+    @Test
+    void cardinalityLimit_DeniesMethodsBeyondMaximum() throws Throwable {
+        meterRegistry.config().meterFilter(new MetricsConfig().methodMetricsCardinalityLimit(0));
+        when(joinPoint.proceed()).thenReturn("result");
+
+        metricsAspect.recordLatency(joinPoint);
+
+        assertTrue(meterRegistry.find(MetricsAspect.METRIC_NAME).timers().isEmpty());
+    }
+}
@@ -0,0 +1,95 @@
+package com.classmanagementsystem.classmanagement.cache;
+
+import com.classmanagementsystem.classmanagement.dto.ClassesDTO;
+import com.classmanagementsystem.classmanagement.dto.StudentDTO;
+import com.classmanagementsystem.classmanagement.dto.TeacherDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassesJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ClassesJsonCache cache;
+    private ClassesDTO classesDTO;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ClassesJsonCache(objectMapper, 1024 * 1024);
+        classesDTO = new ClassesDTO(100L, "Telekinesis 101", new TeacherDTO(1L, "Prof. X", "Mutant Studies"),
+                new HashSet<>(List.of(new StudentDTO(10L, "Jean Grey", "jean@xmen.com"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_SameTag_EncodesOnce() throws Exception {
+        byte[] first = cache.get(100L, "1-0-1-0", loader());
+        byte[] second = cache.get(100L, "1-0-1-0", loader());
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(objectMapper.writeValueAsString(classesDTO), new String(first, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void get_ChangedTag_ReEncodes() {
+        cache.get(100L, "1-0-1-0", loader());
+        classesDTO.setName("Advanced Telekinesis");
+
+        byte[] json = cache.get(100L, "2-0-1-0", loader());
+
+        assertEquals(2, loads.get());
+        assertTrue(new String(json, StandardCharsets.UTF_8).contains("Advanced Telekinesis"));
+    }
+
+    @Test
+    void evict_DropsEntryAfterCommit() {
+        cache.get(100L, "1-0-1-0", loader());
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(100L);
+        assertEquals(1, cache.size());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertEquals(0, cache.size());
+        cache.get(100L, "1-0-1-0", loader());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_BoundsTotalEncodedSize() {
+        cache = new ClassesJsonCache(objectMapper, 1000);
+
+        for (long id = 1; id <= 50; id++) {
+            cache.get(id, "0-0-1-0", loader());
+        }
+
+        assertTrue(cache.size() < 50);
+    }
+
+    private Supplier<ClassesDTO> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return classesDTO;
+        };
+    }
+}
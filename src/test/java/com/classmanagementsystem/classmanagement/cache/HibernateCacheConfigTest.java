@@ -0,0 +1,120 @@
+package com.classmanagementsystem.classmanagement.cache;
+
+import com.classmanagementsystem.classmanagement.entity.Role;
+import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.repository.RoleRepository;
+import com.classmanagementsystem.classmanagement.repository.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction: the read-write strategy only caches rows once the transaction that wrote them has
+ * committed, so every repository call here commits on its own and the rows are deleted afterwards.
+ */
+@DataJpaTest
+@Import({HibernateCacheConfig.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "classmanagement.hibernate-cache.student.max-size=2"
+})
+public class HibernateCacheConfigTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    private Statistics statistics;
+    private final List<Student> students = new ArrayList<>();
+    private final List<Role> roles = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteAll(students);
+        roleRepository.deleteAll(roles);
+    }
+
+    @Test
+    void findById_SecondRead_IsServedFromTheCache() {
+        Student student = saveStudent("Ash Ketchum", "ash@pokemon.com");
+        studentRepository.findById(student.getId()).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals("Ash Ketchum", studentRepository.findById(student.getId()).orElseThrow().getName());
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.STUDENT_REGION).getHitCount() >= 1);
+        assertTrue(meterRegistry.get("cache.gets").tag("cache", HibernateCacheConfig.STUDENT_REGION)
+                .tag("result", "hit").functionCounter().count() >= 1);
+    }
+
+    @Test
+    void findByName_RepeatedLookup_IsServedFromTheQueryCache() {
+        roles.add(roleRepository.save(new Role(null, "ROLE_CACHED")));
+        roleRepository.findByName("ROLE_CACHED").orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals("ROLE_CACHED", roleRepository.findByName("ROLE_CACHED").orElseThrow().getName());
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void studentRegion_IsBoundedBySize() {
+        for (int i = 0; i < 20; i++) {
+            studentRepository.findById(saveStudent("Student " + i, "s" + i + "@example.com").getId());
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<?, ?> region = hibernateCacheManager
+                .getCache(HibernateCacheConfig.STUDENT_REGION)
+                .unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+        region.cleanUp();
+        assertTrue(region.estimatedSize() <= 2);
+    }
+
+    private Student saveStudent(String name, String email) {
+        Student student = studentRepository.save(new Student(null, name, email));
+        students.add(student);
+        return student;
+    }
+}
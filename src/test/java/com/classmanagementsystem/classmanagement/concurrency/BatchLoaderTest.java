@@ -0,0 +1,157 @@
+package com.classmanagementsystem.classmanagement.concurrency;
+
+import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchLoaderTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS + 1);
+    private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentLoads_OfDifferentKeys_AreResolvedByOneCall() throws Exception {
+        // A window far longer than the test: the batch is dispatched because it fills up
+        BatchLoader batchLoader = new BatchLoader(Duration.ofSeconds(30), CALLERS, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> inProgress = startBlockedLoad(batchLoader, "student", release);
+        List<Future<String>> calls = new ArrayList<>();
+        for (long id = 1; id <= CALLERS; id++) {
+            long key = id;
+            calls.add(executor.submit(() -> batchLoader.load("student", key, recordingLoad(ids -> ids.stream()
+                    .collect(Collectors.toMap(Function.identity(), i -> "student " + i))))));
+        }
+
+        for (int i = 0; i < CALLERS; i++) {
+            assertEquals("student " + (i + 1), calls.get(i).get(5, TimeUnit.SECONDS));
+        }
+        release.countDown();
+        assertEquals("student 0", inProgress.get(5, TimeUnit.SECONDS));
+        assertEquals(2, batches.size());
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L), new HashSet<>(batches.get(1)));
+        DistributionSummary batchSize = meterRegistry.get("classmanagement.batch-loader.batch-size")
+                .tag("name", "student").summary();
+        assertEquals(2, batchSize.count());
+        assertEquals(CALLERS + 1, batchSize.totalAmount());
+    }
+
+    @Test
+    void loneLoad_IsDispatchedWithoutWaitingForTheWindow() {
+        BatchLoader batchLoader = new BatchLoader(Duration.ofSeconds(30), 100, meterRegistry);
+
+        String teacher = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> batchLoader.load("teacher", 1L, recordingLoad(ids -> Map.of(1L, "teacher 1"))));
+
+        assertEquals("teacher 1", teacher);
+        assertEquals(List.of(List.of(1L)), batches);
+    }
+
+    @Test
+    void loadInProgress_OfAnotherKind_DoesNotDelayALoneLoad() throws Exception {
+        BatchLoader batchLoader = new BatchLoader(Duration.ofSeconds(30), 100, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> inProgress = startBlockedLoad(batchLoader, "student", release);
+
+        String teacher = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> batchLoader.load("teacher", 1L, recordingLoad(ids -> Map.of(1L, "teacher 1"))));
+
+        assertEquals("teacher 1", teacher);
+        release.countDown();
+        assertEquals("student 0", inProgress.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void keyMissingFromTheResult_LoadsAsNull() {
+        BatchLoader batchLoader = new BatchLoader(Duration.ZERO, 100, meterRegistry);
+
+        assertNull(batchLoader.load("student", 99L, recordingLoad(ids -> Map.of())));
+    }
+
+    @Test
+    void everyCallerOfABatch_ReceivesTheLoadsException() throws Exception {
+        BatchLoader batchLoader = new BatchLoader(Duration.ofSeconds(30), 2, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> inProgress = startBlockedLoad(batchLoader, "student", release);
+        Function<List<Long>, Map<Long, String>> failing = recordingLoad(ids -> {
+            throw new ResourceNotFoundException("Student", "id", ids.get(0));
+        });
+
+        Future<String> first = executor.submit(() -> batchLoader.load("student", 1L, failing));
+        Future<String> second = executor.submit(() -> batchLoader.load("student", 2L, failing));
+
+        for (Future<String> call : List.of(first, second)) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ResourceNotFoundException.class, e.getCause());
+        }
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(1).size());
+        release.countDown();
+        assertEquals("student 0", inProgress.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void loadsAfterABatchCompleted_StartANewBatch() {
+        BatchLoader batchLoader = new BatchLoader(Duration.ZERO, 100, meterRegistry);
+        Function<List<Long>, Map<Long, String>> load = recordingLoad(ids -> Map.of(ids.get(0), "student"));
+
+        batchLoader.load("student", 1L, load);
+        batchLoader.load("student", 1L, load);
+
+        assertEquals(List.of(List.of(1L), List.of(1L)), batches);
+    }
+
+    /**
+     * Starts a load of key 0 that stays in progress until {@code release} is counted down, so that the next caller
+     * of the same kind is not alone and waits for others to join its batch.
+     */
+    private Future<String> startBlockedLoad(BatchLoader batchLoader, String name, CountDownLatch release)
+            throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<String> call = executor.submit(() -> batchLoader.load(name, 0L, recordingLoad(ids -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of(0L, name + " 0");
+        })));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return call;
+    }
+
+    private Function<List<Long>, Map<Long, String>> recordingLoad(Function<List<Long>, Map<Long, String>> load) {
+        return ids -> {
+            batches.add(List.copyOf(ids));
+            return load.apply(ids);
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package com.classmanagementsystem.classmanagement.concurrency;
+
+import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCalls_ForSameKey_ShareOneLoad() throws Exception {
+        Object result = new Object();
+        List<Future<Object>> calls = startCalls("classes", 1L, blockingLoad(() -> result));
+        awaitCoalesced("classes", CALLERS - 1);
+
+        release.countDown();
+
+        for (Future<Object> call : calls) {
+            assertSame(result, call.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, count("classes", "loaded"));
+        assertEquals(CALLERS - 1, count("classes", "coalesced"));
+        assertEquals(0, meterRegistry.get("classmanagement.coalescer.in-flight").gauge().value());
+    }
+
+    @Test
+    void concurrentCalls_ShareTheLoadersException() throws Exception {
+        List<Future<Object>> calls = startCalls("student", 99L, blockingLoad(() -> {
+            throw new ResourceNotFoundException("Student", "id", 99L);
+        }));
+        awaitCoalesced("student", CALLERS - 1);
+
+        release.countDown();
+
+        for (Future<Object> call : calls) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ResourceNotFoundException.class, e.getCause());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void callsForDifferentKeysOrNames_AreNotShared() {
+        assertEquals("teacher 1", coalescer.execute("teacher", 1L, () -> "teacher 1"));
+        assertEquals("teacher 2", coalescer.execute("teacher", 2L, () -> "teacher 2"));
+        assertEquals("student 1", coalescer.execute("student", 1L, () -> "student 1"));
+        assertEquals(0, count("teacher", "coalesced"));
+    }
+
+    @Test
+    void sequentialCalls_EachLoadAgain() {
+        coalescer.execute("classes", 1L, () -> loads.incrementAndGet());
+        coalescer.execute("classes", 1L, () -> loads.incrementAndGet());
+
+        assertEquals(2, loads.get());
+        assertEquals(2, count("classes", "loaded"));
+    }
+
+    private List<Future<Object>> startCalls(String name, Object key, Supplier<Object> loader) {
+        List<Future<Object>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            calls.add(executor.submit(() -> coalescer.execute(name, key, loader)));
+        }
+        return calls;
+    }
+
+    private Supplier<Object> blockingLoad(Supplier<Object> result) {
+        return () -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private void awaitCoalesced(String name, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(name, "coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, count(name, "coalesced"));
+    }
+
+    private double count(String name, String result) {
+        var counter = meterRegistry.find("classmanagement.coalescer.calls").tag("name", name).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -1,23 +1,28 @@
 package com.classmanagementsystem.classmanagement.controller;
 
 import com.classmanagementsystem.classmanagement.dto.LoginDto;
+import com.classmanagementsystem.classmanagement.dto.RefreshTokenRequestDTO;
+import com.classmanagementsystem.classmanagement.dto.TokenResponseDTO;
 import com.classmanagementsystem.classmanagement.service.AuthService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthController.class)
+@AutoConfigureMockMvc(addFilters = false)
 public class AuthControllerTest {
 
     @Autowired
@@ -38,26 +43,41 @@ public class AuthControllerTest {
 
     @Test
     void login_Success() throws Exception {
-        when(authService.login(any(LoginDto.class))).thenReturn("User logged in successfully!");
+        when(authService.login(any(LoginDto.class))).thenReturn(new TokenResponseDTO("access", "refresh", 900));
 
         mockMvc.perform(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginDto)))
                 .andExpect(status().isOk())
-                .andExpect(content().string("User logged in successfully!"));
+                .andExpect(jsonPath("$.accessToken").value("access"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh"))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"));
 
         verify(authService, times(1)).login(any(LoginDto.class));
     }
 
     @Test
     void login_Failure() throws Exception {
-        when(authService.login(any(LoginDto.class))).thenThrow(new RuntimeException("Invalid credentials"));
+        when(authService.login(any(LoginDto.class))).thenThrow(new BadCredentialsException("Bad credentials"));
 
         mockMvc.perform(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginDto)))
-                .andExpect(status().isBadRequest()); // Assuming a RuntimeException from service maps to 400
+                .andExpect(status().isUnauthorized());
 
         verify(authService, times(1)).login(any(LoginDto.class));
     }
+
+    @Test
+    void refresh_Success() throws Exception {
+        when(authService.refresh("refresh")).thenReturn(new TokenResponseDTO("new-access", "new-refresh", 900));
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequestDTO("refresh"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("new-access"));
+
+        verify(authService, times(1)).refresh("refresh");
+    }
 }
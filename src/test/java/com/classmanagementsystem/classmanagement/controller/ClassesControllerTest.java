@@ -1,14 +1,17 @@
 package com.classmanagementsystem.classmanagement.controller;
 
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
 import com.classmanagementsystem.classmanagement.dto.ClassesDTO;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.StudentDTO;
 import com.classmanagementsystem.classmanagement.dto.TeacherDTO;
 import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
-import com.classmanagementsystem.classmanagement.serviceinterface.ClassesServiceInterface;
+import com.classmanagementsystem.classmanagement.service.ClassesService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
@@ -17,8 +20,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -27,13 +32,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ClassesController.class)
+@AutoConfigureMockMvc(addFilters = false)
 public class ClassesControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
-    private ClassesServiceInterface classesService;
+    private ClassesService classesService;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -66,56 +72,124 @@ public class ClassesControllerTest {
     }
 
     @Test
-    void createClasses_InvalidInput() throws Exception {
-        ClassesDTO invalidClassesDTO = new ClassesDTO(null, "A", null, null); // Invalid name
+    void createClasses_ShortName_IsLeftToTheService() throws Exception {
+        // ClassesDTO declares no constraints, so the controller passes it on unchanged
+        ClassesDTO shortNameDTO = new ClassesDTO(null, "A", null, null);
+        when(classesService.createClasses(any(ClassesDTO.class))).thenReturn(new ClassesDTO(102L, "A", null, null));
 
         mockMvc.perform(post("/api/classes")
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(invalidClassesDTO)))
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message", is("Validation Failed")));
+                        .content(objectMapper.writeValueAsString(shortNameDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name", is("A")));
 
-        verify(classesService, never()).createClasses(any(ClassesDTO.class));
+        verify(classesService, times(1)).createClasses(any(ClassesDTO.class));
     }
 
     @Test
     void getAllClasses_ReturnsListOfClasses() throws Exception {
         List<ClassesDTO> classesList = Arrays.asList(classesDTO1, classesDTO2);
-        when(classesService.getAllClasses()).thenReturn(classesList);
+        when(classesService.getClassesPage(null, null)).thenReturn(new CursorPage<>(classesList, null, CursorPage.DEFAULT_LIMIT));
+
+        mockMvc.perform(get("/api/classes")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].name", is("Telekinesis 101")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(classesService, times(1)).getClassesPage(null, null);
+    }
+
+    @Test
+    void getAllClasses_NextPage_PassesCursorAndLimit() throws Exception {
+        when(classesService.getClassesPage("aWQ6MTAw", 1)).thenReturn(new CursorPage<>(List.of(), null, 1));
+
+        mockMvc.perform(get("/api/classes")
+                        .param("after", "aWQ6MTAw")
+                        .param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)))
+                .andExpect(jsonPath("$.limit", is(1)));
+
+        verify(classesService, times(1)).getClassesPage("aWQ6MTAw", 1);
+    }
+
+    @Test
+    void exportClasses_WritesOneClassPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<ClassesDTO> sink = invocation.getArgument(0);
+            sink.accept(classesDTO1);
+            sink.accept(classesDTO2);
+            return null;
+        }).when(classesService).exportClasses(any());
+
+        String body = mockMvc.perform(get("/api/classes/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(100L, objectMapper.readValue(lines[0], ClassesDTO.class).getId());
+        assertEquals(101L, objectMapper.readValue(lines[1], ClassesDTO.class).getId());
+    }
+
+    @Test
+    void getClassesByIds_ReturnsItemsAndMissingIds() throws Exception {
+        when(classesService.getClassesByIds(List.of(2L, 99L, 1L)))
+                .thenReturn(new BatchGetResult<>(List.of(classesDTO2, classesDTO1), List.of(99L)));
 
         mockMvc.perform(get("/api/classes")
+                        .param("ids", "2,99,1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[*]").isArray())
-                .andExpect(jsonPath("$[*]", hasSize(2)))
-                .andExpect(jsonPath("$[0].name", is("Telekinesis 101")));
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].name", is(classesDTO2.getName())))
+                .andExpect(jsonPath("$.missingIds[0]", is(99)));
 
-        verify(classesService, times(1)).getAllClasses();
+        verify(classesService, times(1)).getClassesByIds(List.of(2L, 99L, 1L));
     }
 
     @Test
     void getClassesById_Found() throws Exception {
-        when(classesService.getClassesById(100L)).thenReturn(classesDTO1);
+        when(classesService.getClassesETag(100L)).thenReturn("3");
+        when(classesService.getClassesJson(100L, "3")).thenReturn(objectMapper.writeValueAsBytes(classesDTO1));
 
         mockMvc.perform(get("/api/classes/{id}", 100L)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
                 .andExpect(jsonPath("$.id", is(100)))
                 .andExpect(jsonPath("$.name", is("Telekinesis 101")));
 
-        verify(classesService, times(1)).getClassesById(100L);
+        verify(classesService, times(1)).getClassesJson(100L, "3");
+    }
+
+    @Test
+    void getClassesById_NotModified() throws Exception {
+        when(classesService.getClassesETag(100L)).thenReturn("3");
+
+        mockMvc.perform(get("/api/classes/{id}", 100L)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        verify(classesService, never()).getClassesJson(eq(100L), any());
     }
 
     @Test
     void getClassesById_NotFound() throws Exception {
-        when(classesService.getClassesById(99L)).thenThrow(new ResourceNotFoundException("Classes", "id", 99L));
+        when(classesService.getClassesETag(99L)).thenThrow(new ResourceNotFoundException("Classes", "id", 99L));
 
         mockMvc.perform(get("/api/classes/{id}", 99L)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", is("Classes not found with id : '99'")));
 
-        verify(classesService, times(1)).getClassesById(99L);
+        verify(classesService, never()).getClassesJson(eq(99L), any());
     }
 
     @Test
@@ -170,14 +244,13 @@ public class ClassesControllerTest {
 
     @Test
     void enrollStudentInClasses_Success() throws Exception {
-        ClassesDTO enrolledClassesDTO = new ClassesDTO(100L, "Telekinesis 101", teacherDTO, new HashSet<>(Arrays.asList(studentDTO)));
-        when(classesService.enrollStudentInClasses(100L, 10L)).thenReturn(enrolledClassesDTO);
+        when(classesService.enrollStudentInClasses(100L, 10L)).thenReturn(classesDTO1);
 
-        mockMvc.perform(put("/api/classes/{classesId}/students/{studentId}", 100L, 10L))
+        mockMvc.perform(put("/api/classes/classes/{classesId}/students/{studentId}", 100L, 10L))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(100)))
-                .andExpect(jsonPath("$.students", hasSize(1)))
-                .andExpect(jsonPath("$.students[0].id", is(10)));
+                .andExpect(jsonPath("$.id", is(classesDTO1.getId().intValue())))
+                .andExpect(jsonPath("$.name", is(classesDTO1.getName())))
+                .andExpect(jsonPath("$.students").isArray());
 
         verify(classesService, times(1)).enrollStudentInClasses(100L, 10L);
     }
@@ -186,7 +259,7 @@ public class ClassesControllerTest {
     void enrollStudentInClasses_ClassesNotFound() throws Exception {
         when(classesService.enrollStudentInClasses(99L, 10L)).thenThrow(new ResourceNotFoundException("Classes", "id", 99L));
 
-        mockMvc.perform(put("/api/classes/{classesId}/students/{studentId}", 99L, 10L))
+        mockMvc.perform(put("/api/classes/classes/{classesId}/students/{studentId}", 99L, 10L))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", is("Classes not found with id : '99'")));
 
@@ -197,10 +270,20 @@ public class ClassesControllerTest {
     void enrollStudentInClasses_StudentNotFound() throws Exception {
         when(classesService.enrollStudentInClasses(100L, 99L)).thenThrow(new ResourceNotFoundException("Student", "id", 99L));
 
-        mockMvc.perform(put("/api/classes/{classesId}/students/{studentId}", 100L, 99L))
+        mockMvc.perform(put("/api/classes/classes/{classesId}/students/{studentId}", 100L, 99L))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", is("Student not found with id : '99'")));
 
         verify(classesService, times(1)).enrollStudentInClasses(100L, 99L);
     }
+
+    @Test
+    void unenrollStudentFromClasses_Success() throws Exception {
+        doNothing().when(classesService).unenrollStudentFromClasses(100L, 10L);
+
+        mockMvc.perform(delete("/api/classes/classes/{classesId}/students/{studentId}", 100L, 10L))
+                .andExpect(status().isNoContent());
+
+        verify(classesService, times(1)).unenrollStudentFromClasses(100L, 10L);
+    }
 }
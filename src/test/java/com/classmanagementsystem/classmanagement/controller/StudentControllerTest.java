@@ -1,17 +1,26 @@
 package com.classmanagementsystem.classmanagement.controller;
 
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.StudentDTO;
+import com.classmanagementsystem.classmanagement.dto.StudentImportResultDTO;
 import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
-import com.classmanagementsystem.classmanagement.serviceinterface.StudentServiceInterface;
+import com.classmanagementsystem.classmanagement.service.StudentImportService;
+import com.classmanagementsystem.classmanagement.service.StudentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -24,13 +33,17 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(StudentController.class)
+@AutoConfigureMockMvc(addFilters = false)
 public class StudentControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
-    private StudentServiceInterface studentService;
+    private StudentService studentService;
+
+    @MockBean
+    private StudentImportService studentImportService;
 
     @Autowired
     private ObjectMapper objectMapper; // Used to convert objects to JSON
@@ -74,41 +87,87 @@ public class StudentControllerTest {
     @Test
     void getAllStudents_ReturnsListOfStudents() throws Exception {
         List<StudentDTO> studentList = Arrays.asList(studentDTO1, studentDTO2);
-        when(studentService.getAllStudents()).thenReturn(studentList);
+        when(studentService.getStudentsPage(null, null)).thenReturn(new CursorPage<>(studentList, null, CursorPage.DEFAULT_LIMIT));
+
+        mockMvc.perform(get("/api/students")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].name", is("Alice")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(studentService, times(1)).getStudentsPage(null, null);
+    }
+
+    @Test
+    void getAllStudents_NextPage_PassesCursorAndLimit() throws Exception {
+        when(studentService.getStudentsPage("aWQ6MTAw", 1)).thenReturn(new CursorPage<>(List.of(), null, 1));
+
+        mockMvc.perform(get("/api/students")
+                        .param("after", "aWQ6MTAw")
+                        .param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)))
+                .andExpect(jsonPath("$.limit", is(1)));
+
+        verify(studentService, times(1)).getStudentsPage("aWQ6MTAw", 1);
+    }
+
+    @Test
+    void getStudentByIds_ReturnsItemsAndMissingIds() throws Exception {
+        when(studentService.getStudentsByIds(List.of(2L, 99L, 1L)))
+                .thenReturn(new BatchGetResult<>(List.of(studentDTO2, studentDTO1), List.of(99L)));
 
         mockMvc.perform(get("/api/students")
+                        .param("ids", "2,99,1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[*]").isArray())
-                .andExpect(jsonPath("$[*]", hasSize(2)))
-                .andExpect(jsonPath("$[0].name", is("Alice")));
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].name", is(studentDTO2.getName())))
+                .andExpect(jsonPath("$.missingIds[0]", is(99)));
 
-        verify(studentService, times(1)).getAllStudents();
+        verify(studentService, times(1)).getStudentsByIds(List.of(2L, 99L, 1L));
     }
 
     @Test
     void getStudentById_Found() throws Exception {
+        when(studentService.getStudentETag(1L)).thenReturn("3");
         when(studentService.getStudentById(1L)).thenReturn(studentDTO1);
 
         mockMvc.perform(get("/api/students/{id}", 1L)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.name", is("Alice")));
 
         verify(studentService, times(1)).getStudentById(1L);
     }
 
+    @Test
+    void getStudentById_NotModified() throws Exception {
+        when(studentService.getStudentETag(1L)).thenReturn("3");
+
+        mockMvc.perform(get("/api/students/{id}", 1L)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        verify(studentService, never()).getStudentById(1L);
+    }
+
     @Test
     void getStudentById_NotFound() throws Exception {
-        when(studentService.getStudentById(99L)).thenThrow(new ResourceNotFoundException("Student", "id", 99L));
+        when(studentService.getStudentETag(99L)).thenThrow(new ResourceNotFoundException("Student", "id", 99L));
 
         mockMvc.perform(get("/api/students/{id}", 99L)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", is("Student not found with id : '99'")));
 
-        verify(studentService, times(1)).getStudentById(99L);
+        verify(studentService, never()).getStudentById(99L);
     }
 
     @Test
@@ -160,4 +219,19 @@ public class StudentControllerTest {
 
         verify(studentService, times(1)).deleteStudent(99L);
     }
+
+    @Test
+    void importStudents_ReturnsSummary() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "students.csv", "text/csv",
+                "name,email\nAlice,alice@example.com\n".getBytes(StandardCharsets.UTF_8));
+        when(studentImportService.importStudents(any(Reader.class)))
+                .thenReturn(new StudentImportResultDTO(1, 0, new ArrayList<>()));
+
+        mockMvc.perform(multipart("/api/students/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted", is(1)))
+                .andExpect(jsonPath("$.rejected", is(0)));
+
+        verify(studentImportService, times(1)).importStudents(any(Reader.class));
+    }
 }
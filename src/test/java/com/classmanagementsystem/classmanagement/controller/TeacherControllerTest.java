@@ -1,12 +1,15 @@
 package com.classmanagementsystem.classmanagement.controller;
 
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.TeacherDTO;
 import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
-import com.classmanagementsystem.classmanagement.serviceinterface.TeacherServiceInterface;
+import com.classmanagementsystem.classmanagement.service.TeacherService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
@@ -24,13 +27,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TeacherController.class)
+@AutoConfigureMockMvc(addFilters = false)
 public class TeacherControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
-    private TeacherServiceInterface teacherService;
+    private TeacherService teacherService;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -74,41 +78,87 @@ public class TeacherControllerTest {
     @Test
     void getAllTeachers_ReturnsListOfTeachers() throws Exception {
         List<TeacherDTO> teacherList = Arrays.asList(teacherDTO1, teacherDTO2);
-        when(teacherService.getAllTeachers()).thenReturn(teacherList);
+        when(teacherService.getTeachersPage(null, null)).thenReturn(new CursorPage<>(teacherList, null, CursorPage.DEFAULT_LIMIT));
 
         mockMvc.perform(get("/api/teachers")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[*]").isArray())
-                .andExpect(jsonPath("$[*]", hasSize(2)))
-                .andExpect(jsonPath("$[0].name", is("Mr. Smith")));
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].name", is("Mr. Smith")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
 
-        verify(teacherService, times(1)).getAllTeachers();
+        verify(teacherService, times(1)).getTeachersPage(null, null);
+    }
+
+    @Test
+    void getAllTeachers_NextPage_PassesCursorAndLimit() throws Exception {
+        when(teacherService.getTeachersPage("aWQ6MTAw", 1)).thenReturn(new CursorPage<>(List.of(), null, 1));
+
+        mockMvc.perform(get("/api/teachers")
+                        .param("after", "aWQ6MTAw")
+                        .param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)))
+                .andExpect(jsonPath("$.limit", is(1)));
+
+        verify(teacherService, times(1)).getTeachersPage("aWQ6MTAw", 1);
+    }
+
+    @Test
+    void getTeacherByIds_ReturnsItemsAndMissingIds() throws Exception {
+        when(teacherService.getTeachersByIds(List.of(2L, 99L, 1L)))
+                .thenReturn(new BatchGetResult<>(List.of(teacherDTO2, teacherDTO1), List.of(99L)));
+
+        mockMvc.perform(get("/api/teachers")
+                        .param("ids", "2,99,1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].name", is(teacherDTO2.getName())))
+                .andExpect(jsonPath("$.missingIds[0]", is(99)));
+
+        verify(teacherService, times(1)).getTeachersByIds(List.of(2L, 99L, 1L));
     }
 
     @Test
     void getTeacherById_Found() throws Exception {
+        when(teacherService.getTeacherETag(1L)).thenReturn("3");
         when(teacherService.getTeacherById(1L)).thenReturn(teacherDTO1);
 
         mockMvc.perform(get("/api/teachers/{id}", 1L)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.name", is("Mr. Smith")));
 
         verify(teacherService, times(1)).getTeacherById(1L);
     }
 
+    @Test
+    void getTeacherById_NotModified() throws Exception {
+        when(teacherService.getTeacherETag(1L)).thenReturn("3");
+
+        mockMvc.perform(get("/api/teachers/{id}", 1L)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        verify(teacherService, never()).getTeacherById(1L);
+    }
+
     @Test
     void getTeacherById_NotFound() throws Exception {
-        when(teacherService.getTeacherById(99L)).thenThrow(new ResourceNotFoundException("Teacher", "id", 99L));
+        when(teacherService.getTeacherETag(99L)).thenThrow(new ResourceNotFoundException("Teacher", "id", 99L));
 
         mockMvc.perform(get("/api/teachers/{id}", 99L)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", is("Teacher not found with id : '99'")));
 
-        verify(teacherService, times(1)).getTeacherById(99L);
+        verify(teacherService, never()).getTeacherById(99L);
     }
 
     @Test
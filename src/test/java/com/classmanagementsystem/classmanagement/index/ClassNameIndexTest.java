@@ -0,0 +1,107 @@
+package com.classmanagementsystem.classmanagement.index;
+
+import com.classmanagementsystem.classmanagement.dto.ClassSuggestionDTO;
+import com.classmanagementsystem.classmanagement.repository.ClassesRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ClassNameIndexTest {
+
+    @Mock
+    private ClassesRepository classesRepository;
+
+    private ClassNameIndex classNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(classesRepository.findAllNames()).thenReturn(List.of(
+                new ClassSuggestionDTO(1L, "Mechanics"),
+                new ClassSuggestionDTO(2L, "Algebra I"),
+                new ClassSuggestionDTO(3L, "Mathematics"),
+                new ClassSuggestionDTO(4L, "Algebra II"),
+                new ClassSuggestionDTO(5L, "Álgebra Lineal"),
+                new ClassSuggestionDTO(6L, "Math")));
+        classNameIndex = new ClassNameIndex(classesRepository);
+        classNameIndex.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void suggest_ReturnsNamesStartingWithPrefixInNameOrder() {
+        assertEquals(List.of("Math", "Mathematics"), names(classNameIndex.suggest("MAT", 10)));
+        assertEquals(List.of("Algebra I", "Algebra II", "Álgebra Lineal"), names(classNameIndex.suggest("alge", 10)));
+        assertEquals(List.of("Algebra II"), names(classNameIndex.suggest("algebra ii", 10)));
+        assertEquals(List.of(), classNameIndex.suggest("physics", 10));
+    }
+
+    @Test
+    void suggest_StopsAtLimit() {
+        assertEquals(List.of("Algebra I", "Algebra II"), names(classNameIndex.suggest("", 2)));
+        assertEquals(List.of(6L), classNameIndex.suggest("m", 1).stream().map(ClassSuggestionDTO::getId).toList());
+    }
+
+    @Test
+    void savedAndRemovedClasses_AreReflectedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        classNameIndex.classSaved(7L, "Marine Biology");
+        classNameIndex.classSaved(3L, "Advanced Mathematics");
+        classNameIndex.classRemoved(6L);
+        assertEquals(List.of("Math", "Mathematics", "Mechanics"), names(classNameIndex.suggest("m", 10)));
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertEquals(List.of("Marine Biology", "Mechanics"), names(classNameIndex.suggest("m", 10)));
+        assertEquals(List.of("Advanced Mathematics"), names(classNameIndex.suggest("adv", 10)));
+    }
+
+    @Test
+    void changeMadeDuringRebuild_IsNotLost() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(classesRepository.findAllNames()).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(new ClassSuggestionDTO(1L, "Mechanics"));
+        });
+        Thread rebuild = new Thread(classNameIndex::rebuild);
+        rebuild.start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // Saved after the rebuild read the names, so the rebuild does not contain it. The change does not wait for
+        // the rebuild to finish.
+        Thread writer = new Thread(() -> classNameIndex.classSaved(7L, "Marine Biology"));
+        writer.start();
+        writer.join(5_000);
+        assertFalse(writer.isAlive());
+        assertEquals(List.of("Marine Biology"), names(classNameIndex.suggest("mar", 10)));
+
+        release.countDown();
+        rebuild.join(5_000);
+        assertFalse(rebuild.isAlive());
+        assertEquals(List.of("Marine Biology", "Mechanics"), names(classNameIndex.suggest("m", 10)));
+    }
+
+    private static List<String> names(List<ClassSuggestionDTO> suggestions) {
+        return suggestions.stream().map(ClassSuggestionDTO::getName).toList();
+    }
+}
@@ -0,0 +1,168 @@
+package com.classmanagementsystem.classmanagement.index;
+
+import com.classmanagementsystem.classmanagement.dto.EnrollmentDTO;
+import com.classmanagementsystem.classmanagement.repository.EnrollmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class EnrollmentIndexTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    private EnrollmentIndex enrollmentIndex;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            BiConsumer<Long, Long> consumer = invocation.getArgument(0);
+            consumer.accept(100L, 10L);
+            consumer.accept(100L, 11L);
+            consumer.accept(100L, 12L);
+            consumer.accept(101L, 11L);
+            consumer.accept(101L, 12L);
+            consumer.accept(101L, 13L);
+            return null;
+        }).when(enrollmentRepository).forEach(any());
+        enrollmentIndex = new EnrollmentIndex(enrollmentRepository);
+        enrollmentIndex.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rebuild_LoadsBothDirectionsFromJoinTable() {
+        assertTrue(enrollmentIndex.isEnrolled(100L, 10L));
+        assertFalse(enrollmentIndex.isEnrolled(100L, 13L));
+        assertEquals(List.of(10L, 11L, 12L), enrollmentIndex.getStudentIds(100L));
+        assertEquals(List.of(100L, 101L), enrollmentIndex.getClassIds(11L));
+        assertEquals(List.of(11L, 12L), enrollmentIndex.getSharedStudentIds(100L, 101L));
+        assertEquals(List.of(), enrollmentIndex.getSharedStudentIds(100L, 999L));
+        assertEquals(List.of(), enrollmentIndex.getClassIds(999L));
+    }
+
+    @Test
+    void enrollAndUnenroll_UpdateBothDirections() {
+        List<Long> rosterBefore = enrollmentIndex.getStudentIds(100L);
+
+        enrollmentIndex.enrolled(100L, 13L);
+        enrollmentIndex.unenrolled(101L, 11L);
+
+        assertEquals(List.of(10L, 11L, 12L), rosterBefore);
+        assertEquals(List.of(10L, 11L, 12L, 13L), enrollmentIndex.getStudentIds(100L));
+        assertEquals(List.of(100L, 101L), enrollmentIndex.getClassIds(13L));
+        assertEquals(List.of(100L), enrollmentIndex.getClassIds(11L));
+        assertEquals(List.of(12L, 13L), enrollmentIndex.getSharedStudentIds(100L, 101L));
+    }
+
+    @Test
+    void enrolledAll_AndRemovals_KeepDirectionsConsistent() {
+        enrollmentIndex.enrolledAll(List.of(new EnrollmentDTO(102L, 10L), new EnrollmentDTO(102L, 13L)));
+        assertEquals(List.of(10L, 13L), enrollmentIndex.getStudentIds(102L));
+
+        enrollmentIndex.classRemoved(100L);
+        enrollmentIndex.studentRemoved(13L);
+
+        assertEquals(List.of(), enrollmentIndex.getStudentIds(100L));
+        assertEquals(List.of(102L), enrollmentIndex.getClassIds(10L));
+        assertEquals(List.of(11L, 12L), enrollmentIndex.getStudentIds(101L));
+        assertEquals(List.of(10L), enrollmentIndex.getStudentIds(102L));
+    }
+
+    @Test
+    void changesInsideTransaction_AreAppliedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        enrollmentIndex.enrolled(100L, 13L);
+        assertFalse(enrollmentIndex.isEnrolled(100L, 13L));
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertTrue(enrollmentIndex.isEnrolled(100L, 13L));
+    }
+
+    @Test
+    void idsOutsideTheIntRange_AreNotFound() {
+        long outOfRange = (1L << 32) + 100L;
+
+        assertFalse(enrollmentIndex.isEnrolled(outOfRange, 10L));
+        assertFalse(enrollmentIndex.isEnrolled(100L, (1L << 32) + 10L));
+        assertEquals(List.of(), enrollmentIndex.getStudentIds(outOfRange));
+        assertEquals(List.of(), enrollmentIndex.getClassIds(Long.MAX_VALUE));
+        assertEquals(List.of(), enrollmentIndex.getSharedStudentIds(outOfRange, 101L));
+    }
+
+    @Test
+    void enrollmentsWithIdsOutsideTheIntRange_AreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> enrollmentIndex.enrolled(100L, (1L << 32) + 13L));
+        assertThrows(IllegalArgumentException.class, () -> enrollmentIndex.enrolledAll(
+                List.of(new EnrollmentDTO(100L, 13L), new EnrollmentDTO(Long.MAX_VALUE, 13L))));
+
+        assertEquals(List.of(10L, 11L, 12L), enrollmentIndex.getStudentIds(100L));
+        assertEquals(List.of(101L), enrollmentIndex.getClassIds(13L));
+    }
+
+    @Test
+    void rebuild_WithIdOutsideTheIntRange_FailsAndKeepsTheIndex() {
+        doAnswer(invocation -> {
+            BiConsumer<Long, Long> consumer = invocation.getArgument(0);
+            consumer.accept(100L, 10L);
+            consumer.accept(100L, Long.MAX_VALUE);
+            return null;
+        }).when(enrollmentRepository).forEach(any());
+
+        assertThrows(IllegalArgumentException.class, () -> enrollmentIndex.rebuild());
+        assertEquals(List.of(10L, 11L, 12L), enrollmentIndex.getStudentIds(100L));
+    }
+
+    @Test
+    void changeMadeDuringRebuild_IsNotLost() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            BiConsumer<Long, Long> consumer = invocation.getArgument(0);
+            consumer.accept(100L, 10L);
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(enrollmentRepository).forEach(any());
+        Thread rebuild = new Thread(enrollmentIndex::rebuild);
+        rebuild.start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // Enrolled after the rebuild read the join table, so the rebuild does not contain it. The change does not wait
+        // for the rebuild to finish.
+        Thread writer = new Thread(() -> enrollmentIndex.enrolled(100L, 13L));
+        writer.start();
+        writer.join(5_000);
+        assertFalse(writer.isAlive());
+        assertTrue(enrollmentIndex.isEnrolled(100L, 13L));
+
+        release.countDown();
+        rebuild.join(5_000);
+        assertFalse(rebuild.isAlive());
+
+        assertEquals(List.of(10L, 13L), enrollmentIndex.getStudentIds(100L));
+        assertEquals(List.of(100L), enrollmentIndex.getClassIds(13L));
+    }
+}
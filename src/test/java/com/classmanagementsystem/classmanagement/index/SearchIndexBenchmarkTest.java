@@ -0,0 +1,118 @@
+package com.classmanagementsystem.classmanagement.index;
+
+import com.classmanagementsystem.classmanagement.dto.SearchEntityType;
+import com.classmanagementsystem.classmanagement.repository.SearchDocumentRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Loads {@value #STUDENTS} synthetic students and {@value #TEACHERS} teachers into the search index and measures
+ * query latency for typeahead-style queries: single letters, word prefixes, substrings and two-word queries.
+ * Excluded from the default build; run with {@code mvn test -Pbenchmarks}.
+ */
+@Tag("benchmark")
+public class SearchIndexBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexBenchmarkTest.class);
+
+    private static final int STUDENTS = 950_000;
+    private static final int TEACHERS = 50_000;
+    private static final int WARMUP_QUERIES = 10_000;
+    private static final int QUERIES = 20_000;
+    private static final int LIMIT = 10;
+
+    private static final String[] SYLLABLES = {"an", "ba", "ca", "da", "el", "fi", "ga", "ha", "jo", "ka", "li",
+            "ma", "ne", "no", "ol", "pa", "ri", "ro", "sa", "son", "ta", "ti", "ul", "va", "yo", "ze", "mar", "tin",
+            "ber", "lin", "ston", "ez"};
+    private static final String[] DOMAINS = {"example.com", "school.org", "mail.net", "campus.edu"};
+    private static final String[] SUBJECTS = {"Mathematics", "Physics", "Chemistry", "Biology", "Literature",
+            "History", "Geography", "Computer Science", "Music", "Art"};
+    private static final List<String> QUERY_TERMS = List.of("a", "m", "jo", "ma", "mar", "son", "tin", "lina",
+            "martin", "ston", "school", "campus.edu", "physics", "ma son", "jo ri", "li ba", "anka", "ezber");
+
+    @Test
+    void searchLatencyAtOneMillionRecords() {
+        SearchDocumentRepository repository = mock(SearchDocumentRepository.class);
+        doAnswer(invocation -> {
+            SearchDocumentRepository.DocumentConsumer consumer = invocation.getArgument(0);
+            Random random = new Random(1);
+            for (int id = 1; id <= STUDENTS; id++) {
+                String first = word(random);
+                String last = word(random);
+                consumer.accept(id, capitalize(first) + " " + capitalize(last),
+                        first + "." + last + id + "@" + DOMAINS[random.nextInt(DOMAINS.length)]);
+            }
+            return null;
+        }).when(repository).forEachStudent(any());
+        doAnswer(invocation -> {
+            SearchDocumentRepository.DocumentConsumer consumer = invocation.getArgument(0);
+            Random random = new Random(2);
+            for (int id = 1; id <= TEACHERS; id++) {
+                consumer.accept(id, "Dr. " + capitalize(word(random)) + " " + capitalize(word(random)),
+                        SUBJECTS[random.nextInt(SUBJECTS.length)]);
+            }
+            return null;
+        }).when(repository).forEachTeacher(any());
+
+        SearchIndex searchIndex = new SearchIndex(repository);
+        long loadStart = System.nanoTime();
+        searchIndex.rebuild();
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+
+        Random random = new Random(3);
+        query(searchIndex, random, WARMUP_QUERIES);
+        long[] latencies = query(searchIndex, random, QUERIES);
+
+        logger.info("Search over {} records (loaded in {}ms): p50={}us p90={}us p99={}us p99.9={}us max={}us",
+                STUDENTS + TEACHERS, loadMillis, percentile(latencies, 0.5) / 1000, percentile(latencies, 0.9) / 1000,
+                percentile(latencies, 0.99) / 1000, percentile(latencies, 0.999) / 1000,
+                latencies[latencies.length - 1] / 1000);
+        for (String term : QUERY_TERMS) {
+            long start = System.nanoTime();
+            int results = searchIndex.search(term, LIMIT, null).size();
+            logger.info("  '{}': {} results in {}us", term, results, (System.nanoTime() - start) / 1000);
+        }
+        assertFalse(searchIndex.search("martin", LIMIT, SearchEntityType.STUDENT).isEmpty());
+        assertTrue(percentile(latencies, 0.99) < 5_000_000, "p99 search latency should stay under 5ms");
+    }
+
+    private static long[] query(SearchIndex searchIndex, Random random, int count) {
+        long[] latencies = new long[count];
+        for (int i = 0; i < count; i++) {
+            String term = QUERY_TERMS.get(random.nextInt(QUERY_TERMS.size()));
+            long start = System.nanoTime();
+            searchIndex.search(term, LIMIT, null);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+}
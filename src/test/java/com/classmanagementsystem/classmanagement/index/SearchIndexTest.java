@@ -0,0 +1,125 @@
+package com.classmanagementsystem.classmanagement.index;
+
+import com.classmanagementsystem.classmanagement.dto.SearchEntityType;
+import com.classmanagementsystem.classmanagement.dto.SearchResultDTO;
+import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.entity.Teacher;
+import com.classmanagementsystem.classmanagement.repository.SearchDocumentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchIndexTest {
+
+    @Mock
+    private SearchDocumentRepository searchDocumentRepository;
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            SearchDocumentRepository.DocumentConsumer consumer = invocation.getArgument(0);
+            consumer.accept(1L, "Alice Martin", "alice.martin@example.com");
+            consumer.accept(2L, "Natalia Alvarez", "nalvarez@example.com");
+            consumer.accept(3L, "José Núñez", "jose@example.com");
+            consumer.accept(4L, "Bob Stone", "bob@school.org");
+            consumer.accept(5L, "Anna Banana", "ab@example.com");
+            return null;
+        }).when(searchDocumentRepository).forEachStudent(any());
+        doAnswer(invocation -> {
+            SearchDocumentRepository.DocumentConsumer consumer = invocation.getArgument(0);
+            consumer.accept(1L, "Prof. Alice", "Mathematics");
+            consumer.accept(2L, "Dr. Bob", "Physics");
+            return null;
+        }).when(searchDocumentRepository).forEachTeacher(any());
+        searchIndex = new SearchIndex(searchDocumentRepository);
+        searchIndex.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void search_SubstringMatches_AreRankedNameFirst() {
+        List<SearchResultDTO> results = searchIndex.search("ali", 10, null);
+
+        assertEquals(List.of("Alice Martin", "Prof. Alice", "Natalia Alvarez"), names(results));
+        assertEquals(SearchEntityType.TEACHER, results.get(1).getType());
+        assertTrue(results.get(0).getScore() > results.get(2).getScore());
+    }
+
+    @Test
+    void search_ShortTerms_MatchWordStartsOnly() {
+        assertEquals(List.of("Bob Stone", "Dr. Bob", "Anna Banana"), names(searchIndex.search("b", 10, null)));
+        assertEquals(List.of(), names(searchIndex.search("ob", 10, null)));
+    }
+
+    @Test
+    void search_MatchesEmailAndSubject_IgnoringCaseAndAccents() {
+        assertEquals(List.of("Bob Stone"), names(searchIndex.search("SCHOOL.org", 10, null)));
+        assertEquals(List.of("Prof. Alice"), names(searchIndex.search("mathem", 10, null)));
+        assertEquals(List.of("José Núñez"), names(searchIndex.search("nunez", 10, null)));
+    }
+
+    @Test
+    void search_EveryTermMustMatch_AndTrigramsMustBeContiguous() {
+        assertEquals(List.of("Alice Martin"), names(searchIndex.search("alice mar", 10, null)));
+        // "anna banana" has every trigram of "nanna" (ann, nna, nan) but not the term itself
+        assertEquals(List.of(), searchIndex.search("nanna", 10, null));
+        assertEquals(List.of(), searchIndex.search("alice bob", 10, null));
+        assertEquals(List.of(), searchIndex.search("--", 10, null));
+    }
+
+    @Test
+    void search_TypeAndLimit_RestrictResults() {
+        assertEquals(List.of("Alice Martin", "Natalia Alvarez"), names(searchIndex.search("ali", 10, SearchEntityType.STUDENT)));
+        assertEquals(List.of("Prof. Alice"), names(searchIndex.search("ali", 1, SearchEntityType.TEACHER)));
+        assertEquals(List.of("Alice Martin"), names(searchIndex.search("ali", 1, null)));
+    }
+
+    @Test
+    void savedAndRemovedRecords_AreReflectedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        searchIndex.studentSaved(new Student(4L, "Robert Stone", "robert@school.org"));
+        searchIndex.teacherSaved(new Teacher(3L, "Ms. Carol", "Literature"));
+        searchIndex.studentRemoved(1L);
+        assertEquals(List.of("Bob Stone"), names(searchIndex.search("bob", 10, SearchEntityType.STUDENT)));
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertEquals(List.of(), searchIndex.search("bob", 10, SearchEntityType.STUDENT));
+        assertEquals(List.of("Robert Stone"), names(searchIndex.search("robert", 10, null)));
+        assertEquals(List.of("Ms. Carol"), names(searchIndex.search("liter", 10, null)));
+        assertEquals(List.of("Prof. Alice", "Natalia Alvarez"), names(searchIndex.search("ali", 10, null)));
+        assertEquals(List.of("Robert Stone"), names(searchIndex.search("stone", 10, null)));
+    }
+
+    @Test
+    void studentsSaved_IndexesEveryStudentOfTheBatch() {
+        searchIndex.studentsSaved(List.of(new Student(10L, "Zoe Quinn", "zq@example.com"),
+                new Student(11L, "Zack Quill", "zack@example.com")));
+
+        assertEquals(List.of("Zoe Quinn", "Zack Quill"), names(searchIndex.search("qui", 10, null)));
+    }
+
+    private static List<String> names(List<SearchResultDTO> results) {
+        return results.stream().map(SearchResultDTO::getName).toList();
+    }
+}
@@ -0,0 +1,287 @@
+package com.classmanagementsystem.classmanagement.loadtest;
+
+import com.classmanagementsystem.classmanagement.dto.EnrollmentDTO;
+import com.classmanagementsystem.classmanagement.dto.LoginDto;
+import com.classmanagementsystem.classmanagement.dto.TokenResponseDTO;
+import com.classmanagementsystem.classmanagement.entity.Classes;
+import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.entity.Teacher;
+import com.classmanagementsystem.classmanagement.repository.ClassesRepository;
+import com.classmanagementsystem.classmanagement.repository.EnrollmentRepository;
+import com.classmanagementsystem.classmanagement.repository.StudentRepository;
+import com.classmanagementsystem.classmanagement.repository.TeacherRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end load test: boots the whole application on H2, seeds a dataset and drives a fixed request mix over
+ * HTTP through the real security filter chain with a closed pool of virtual users.
+ * <p>
+ * Mix: 80% {@code GET /api/classes/{id}}, 10% enroll, 5% first page of {@code GET /api/classes}, 5% login.
+ * Throughput, error rate and latency percentiles per operation are logged and written to
+ * {@code target/loadtest-result.json}. Excluded from the default build; run with {@code mvn test -Ploadtest},
+ * overriding any {@code loadtest.*} setting with {@code -D}.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+public class LoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final String USERNAME = "admin";
+    private static final String PASSWORD = "adminpass";
+
+    enum Operation {
+        GET_CLASS, ENROLL, LIST_CLASSES, LOGIN
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${loadtest.classes:200}")
+    private int classCount;
+
+    @Value("${loadtest.students:5000}")
+    private int studentCount;
+
+    @Value("${loadtest.students-per-class:30}")
+    private int studentsPerClass;
+
+    @Value("${loadtest.users:16}")
+    private int users;
+
+    @Value("${loadtest.warmup:10s}")
+    private Duration warmup;
+
+    @Value("${loadtest.duration:30s}")
+    private Duration duration;
+
+    @Value("${loadtest.max-error-rate:0.01}")
+    private double maxErrorRate;
+
+    // 0 disables the throughput gate; set it in CI to fail the build on a regression
+    @Value("${loadtest.min-throughput:0}")
+    private double minThroughput;
+
+    @Value("${loadtest.result-file:target/loadtest-result.json}")
+    private Path resultFile;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ClassesRepository classesRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private List<Long> classIds;
+    private List<Long> studentIds;
+    private String loginBody;
+
+    @Test
+    void requestMix() throws Exception {
+        seed();
+        loginBody = objectMapper.writeValueAsString(new LoginDto(USERNAME, PASSWORD));
+        String token = login().getAccessToken();
+
+        run(token, warmup);
+        long start = System.nanoTime();
+        Map<Operation, OperationStats> stats = run(token, duration);
+        long elapsed = System.nanoTime() - start;
+
+        OperationStats total = new OperationStats();
+        stats.values().forEach(total::merge);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", users);
+        report.put("durationSeconds", elapsed / 1_000_000_000.0);
+        report.put("dataset", Map.of("classes", classCount, "students", studentCount, "studentsPerClass", studentsPerClass));
+        report.put("total", total.summary(elapsed));
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((operation, operationStats) -> {
+            Map<String, Object> summary = operationStats.summary(elapsed);
+            operations.put(operation.name(), summary);
+            logger.info("{}: {}", operation, summary);
+        });
+        report.put("operations", operations);
+        logger.info("TOTAL ({} users, {}s): {}", users, duration.toSeconds(), report.get("total"));
+        writeReport(report);
+
+        assertTrue(total.count() > 0, "No requests completed");
+        assertTrue(total.errorRate() <= maxErrorRate,
+                "Error rate " + total.errorRate() + " above " + maxErrorRate);
+        assertTrue(total.count() * 1_000_000_000.0 / elapsed >= minThroughput,
+                "Throughput below " + minThroughput + " requests/s");
+    }
+
+    private void seed() {
+        List<Teacher> teachers = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, classCount / 4); i++) {
+            teachers.add(new Teacher(null, "Teacher " + i, "Subject " + i % 10));
+        }
+        teachers = teacherRepository.saveAll(teachers);
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            students.add(new Student(null, "Student " + i, "loadtest.student" + i + "@example.com"));
+        }
+        studentIds = studentRepository.saveAll(students).stream().map(Student::getId).toList();
+
+        List<Classes> classes = new ArrayList<>();
+        for (int i = 0; i < classCount; i++) {
+            classes.add(new Classes(null, "Class " + i, teachers.get(i % teachers.size()), new HashSet<>()));
+        }
+        classIds = classesRepository.saveAll(classes).stream().map(Classes::getId).toList();
+
+        List<EnrollmentDTO> enrollments = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (Long classId : classIds) {
+            Set<Long> enrolled = new HashSet<>();
+            while (enrolled.size() < Math.min(studentsPerClass, studentIds.size())) {
+                enrolled.add(studentIds.get(random.nextInt(studentIds.size())));
+            }
+            enrolled.forEach(studentId -> enrollments.add(new EnrollmentDTO(classId, studentId)));
+        }
+        enrollmentRepository.insertAll(enrollments);
+        logger.info("Seeded {} teachers, {} students, {} classes, {} enrollments",
+                teachers.size(), studentIds.size(), classIds.size(), enrollments.size());
+    }
+
+    private Map<Operation, OperationStats> run(String token, Duration runFor) throws Exception {
+        long deadline = System.nanoTime() + runFor.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        try {
+            List<Future<Map<Operation, OperationStats>>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                futures.add(executor.submit(() -> virtualUser(token, deadline)));
+            }
+            Map<Operation, OperationStats> merged = newStats();
+            for (Future<Map<Operation, OperationStats>> future : futures) {
+                future.get().forEach((operation, stats) -> merged.get(operation).merge(stats));
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<Operation, OperationStats> virtualUser(String token, long deadline) {
+        Map<Operation, OperationStats> stats = newStats();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Operation operation = pick(random.nextInt(100));
+            HttpRequest request = request(operation, token, random);
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                success = status >= 200 && status < 300;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            stats.get(operation).record(System.nanoTime() - start, success);
+        }
+        return stats;
+    }
+
+    private static Operation pick(int percent) {
+        if (percent < 80) {
+            return Operation.GET_CLASS;
+        }
+        if (percent < 90) {
+            return Operation.ENROLL;
+        }
+        return percent < 95 ? Operation.LIST_CLASSES : Operation.LOGIN;
+    }
+
+    private HttpRequest request(Operation operation, String token, ThreadLocalRandom random) {
+        Long classId = classIds.get(random.nextInt(classIds.size()));
+        return switch (operation) {
+            case GET_CLASS -> authorized(token, "/api/classes/" + classId).GET().build();
+            case ENROLL -> authorized(token, "/api/classes/classes/" + classId + "/students/"
+                    + studentIds.get(random.nextInt(studentIds.size())))
+                    .PUT(HttpRequest.BodyPublishers.noBody()).build();
+            case LIST_CLASSES -> authorized(token, "/api/classes?limit=50").GET().build();
+            case LOGIN -> loginRequest();
+        };
+    }
+
+    private HttpRequest.Builder authorized(String token, String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest loginRequest() {
+        return HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(loginBody))
+                .build();
+    }
+
+    private TokenResponseDTO login() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(loginRequest(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), "Login failed: " + response.body());
+        return objectMapper.readValue(response.body(), TokenResponseDTO.class);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void writeReport(Map<String, Object> report) throws IOException {
+        Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(resultFile.toFile(), report);
+        logger.info("Load test report written to {}", resultFile.toAbsolutePath());
+    }
+
+    private static Map<Operation, OperationStats> newStats() {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        return stats;
+    }
+}
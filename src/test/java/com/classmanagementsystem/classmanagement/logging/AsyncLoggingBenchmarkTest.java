@@ -0,0 +1,130 @@
+package com.classmanagementsystem.classmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures how long a request thread spends in a log call with file logging off, with the synchronous rolling file
+ * appender used before, and with the async file appender from {@code logback-spring.xml}. Each simulated request
+ * logs twice, like {@code LoggingAspect} per layer. Excluded from the default build; run with {@code mvn test -Pbenchmarks}.
+ */
+@Tag("benchmark")
+public class AsyncLoggingBenchmarkTest {
+
+    private static final org.slf4j.Logger logger = LoggerFactory.getLogger(AsyncLoggingBenchmarkTest.class);
+
+    private static final int THREADS = 8;
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int REQUESTS_PER_THREAD = 20_000;
+    // Simulated request work between log calls, so the writer is not flooded by a tight loop
+    private static final long REQUEST_WORK_NANOS = 20_000;
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} %-5level [%thread] %logger{36} - %msg%n";
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    void compareRequestLatencyWithFileLoggingOnAndOff() throws Exception {
+        long[] off = run("off", context -> null);
+        long[] sync = run("sync", context -> fileAppender(context, "sync.log"));
+        long[] async = run("async", context -> asyncAppender(context, fileAppender(context, "async.log")));
+
+        logger.info("Logging cost per request ({} threads, {} requests each): off p50={}ns p99={}ns, "
+                        + "sync file p50={}ns p99={}ns, async file p50={}ns p99={}ns",
+                THREADS, REQUESTS_PER_THREAD, percentile(off, 0.5), percentile(off, 0.99),
+                percentile(sync, 0.5), percentile(sync, 0.99), percentile(async, 0.5), percentile(async, 0.99));
+        assertTrue(percentile(sync, 0.5) > 0);
+    }
+
+    private long[] run(String name, Function<LoggerContext, Appender<ILoggingEvent>> appenderFactory) throws Exception {
+        LoggerContext context = new LoggerContext();
+        context.setName(name);
+        Logger requestLogger = context.getLogger("benchmark." + name);
+        requestLogger.setLevel(Level.INFO);
+        requestLogger.setAdditive(false);
+        Appender<ILoggingEvent> appender = appenderFactory.apply(context);
+        if (appender != null) {
+            requestLogger.addAppender(appender);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            simulate(executor, requestLogger, WARMUP_REQUESTS);
+            return simulate(executor, requestLogger, REQUESTS_PER_THREAD);
+        } finally {
+            executor.shutdown();
+            context.stop();
+        }
+    }
+
+    private static long[] simulate(ExecutorService executor, Logger requestLogger, int requestsPerThread) throws Exception {
+        Future<?>[] futures = new Future<?>[THREADS];
+        long[][] latencies = new long[THREADS][requestsPerThread];
+        for (int t = 0; t < THREADS; t++) {
+            long[] threadLatencies = latencies[t];
+            futures[t] = executor.submit(() -> {
+                for (int i = 0; i < requestsPerThread; i++) {
+                    long start = System.nanoTime();
+                    requestLogger.info("Executed: {}.{}() in {}us", "ClassesService", "getClassesById", i);
+                    requestLogger.info("Executed: {}.{}() in {}us", "ClassesController", "getClassesById", i);
+                    threadLatencies[i] = System.nanoTime() - start;
+                    long workUntil = System.nanoTime() + REQUEST_WORK_NANOS;
+                    while (System.nanoTime() < workUntil) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(all);
+        return all;
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(LoggerContext context, String fileName) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(logDirectory.resolve(fileName).toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private static InstrumentedAsyncAppender asyncAppender(LoggerContext context, Appender<ILoggingEvent> delegate) {
+        InstrumentedAsyncAppender appender = new InstrumentedAsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setDiscardingThreshold(1638);
+        appender.addAppender(delegate);
+        appender.start();
+        return appender;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(percentile * (sorted.length - 1)))];
+    }
+}
@@ -0,0 +1,105 @@
+package com.classmanagementsystem.classmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstrumentedAsyncAppenderTest {
+
+    private final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Logger logger = loggerContext.getLogger(InstrumentedAsyncAppenderTest.class);
+    private final BlockingAppender downstream = new BlockingAppender();
+    private final InstrumentedAsyncAppender appender = new InstrumentedAsyncAppender();
+
+    @BeforeEach
+    void setUp() {
+        downstream.setContext(loggerContext);
+        downstream.start();
+        appender.setContext(loggerContext);
+        appender.setName("TEST_ASYNC");
+        appender.setQueueSize(4);
+        appender.setDiscardingThreshold(2);
+        appender.addAppender(downstream);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        downstream.release.countDown();
+        logger.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    void nearlyFullQueue_DropsInfoAndDebugButKeepsErrors() throws InterruptedException {
+        // The worker takes the first event and blocks in the downstream appender, leaving the queue to us
+        appender.doAppend(event(Level.INFO, "first"));
+        assertTrue(downstream.entered.await(5, TimeUnit.SECONDS));
+
+        appender.doAppend(event(Level.INFO, "queued 1"));
+        appender.doAppend(event(Level.INFO, "queued 2"));
+        appender.doAppend(event(Level.INFO, "queued 3"));
+        appender.doAppend(event(Level.INFO, "dropped"));
+        appender.doAppend(event(Level.DEBUG, "dropped"));
+        appender.doAppend(event(Level.ERROR, "kept"));
+
+        assertEquals(1, appender.getDiscardedCount(Level.INFO));
+        assertEquals(1, appender.getDiscardedCount(Level.DEBUG));
+        assertEquals(0, appender.getDiscardedCount(Level.TRACE));
+        assertEquals(4, appender.getNumberOfElementsInQueue());
+
+        downstream.release.countDown();
+        appender.stop();
+        assertEquals(List.of("first", "queued 1", "queued 2", "queued 3", "kept"), downstream.messages);
+    }
+
+    @Test
+    void metrics_PublishQueueDepthAndDropCounters() {
+        logger.addAppender(appender);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new AsyncAppenderMetrics().bindTo(registry);
+
+        assertEquals(0, registry.get("logging.async.queue.depth").tag("appender", "TEST_ASYNC").gauge().value());
+        assertEquals(4, registry.get("logging.async.queue.remaining").tag("appender", "TEST_ASYNC").gauge().value());
+        assertEquals(0, registry.get("logging.async.dropped").tag("appender", "TEST_ASYNC").tag("level", "INFO")
+                .functionCounter().count());
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.FQCN, logger, level, message, null, null);
+    }
+
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            messages.add(event.getFormattedMessage());
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
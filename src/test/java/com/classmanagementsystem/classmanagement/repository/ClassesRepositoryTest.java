@@ -1,5 +1,7 @@
 package com.classmanagementsystem.classmanagement.repository;
 
+import com.classmanagementsystem.classmanagement.dto.ClassSuggestionDTO;
+import com.classmanagementsystem.classmanagement.dto.ClassSummaryDTO;
 import com.classmanagementsystem.classmanagement.entity.Classes;
 import com.classmanagementsystem.classmanagement.entity.Student;
 import com.classmanagementsystem.classmanagement.entity.Teacher;
@@ -12,6 +14,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -133,4 +137,80 @@ public class ClassesRepositoryTest {
         assertTrue(finalRetrievedClass.get().getStudents().contains(student1));
         assertTrue(finalRetrievedClass.get().getStudents().contains(student2));
     }
+
+    @Test
+    void testStreamAllIds_ReturnsIdsInOrder() {
+        entityManager.persist(class1);
+        entityManager.persist(class2);
+        entityManager.flush();
+
+        try (Stream<Long> ids = classesRepository.streamAllIds()) {
+            assertEquals(List.of(class1.getId(), class2.getId()), ids.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testFindSummariesByStudentId() {
+        class1.getStudents().add(student1);
+        class2.getStudents().add(student1);
+        class2.getStudents().add(student2);
+        Classes noTeacher = new Classes(null, "Self Study", null, new HashSet<>(List.of(student1)));
+        entityManager.persist(class1);
+        entityManager.persist(class2);
+        entityManager.persist(noTeacher);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ClassSummaryDTO> summaries = classesRepository.findSummariesByStudentId(student1.getId());
+
+        assertEquals(List.of(class1.getId(), class2.getId(), noTeacher.getId()),
+                summaries.stream().map(ClassSummaryDTO::getId).toList());
+        assertEquals("Pokemon Training 101", summaries.get(0).getName());
+        assertEquals(teacher.getId(), summaries.get(0).getTeacherId());
+        assertEquals("Prof. Oak", summaries.get(0).getTeacherName());
+        assertNull(summaries.get(2).getTeacherId());
+        assertEquals(List.of(class2.getId()), classesRepository.findSummariesByStudentId(student2.getId()).stream()
+                .map(ClassSummaryDTO::getId).toList());
+    }
+
+    @Test
+    void testFindAllNames() {
+        entityManager.persist(class1);
+        entityManager.persist(class2);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ClassSuggestionDTO> names = classesRepository.findAllNames();
+
+        assertEquals(2, names.size());
+        assertTrue(names.stream().anyMatch(n -> n.getId().equals(class2.getId()) && n.getName().equals("Advanced Battling")));
+    }
+
+    @Test
+    void testFindRosterVersionById_ReflectsTeacherAndStudentChanges() {
+        class1.getStudents().add(student1);
+        class1.getStudents().add(student2);
+        entityManager.persist(class1);
+        Classes noTeacher = entityManager.persist(new Classes(null, "Self Study", null, new HashSet<>()));
+        entityManager.flush();
+
+        ClassesRepository.RosterVersion before = classesRepository.findRosterVersionById(class1.getId()).orElseThrow();
+        assertEquals(2, before.getStudentCount());
+        assertEquals(teacher.getVersion(), before.getTeacherVersion());
+
+        student2.setEmail("misty@cerulean.com");
+        teacher.setSubject("Botany");
+        entityManager.flush();
+
+        ClassesRepository.RosterVersion after = classesRepository.findRosterVersionById(class1.getId()).orElseThrow();
+        assertEquals(before.getClassVersion(), after.getClassVersion());
+        assertEquals(before.getTeacherVersion() + 1, after.getTeacherVersion());
+        assertEquals(before.getStudentVersionSum() + 1, after.getStudentVersionSum());
+
+        ClassesRepository.RosterVersion empty = classesRepository.findRosterVersionById(noTeacher.getId()).orElseThrow();
+        assertNull(empty.getTeacherVersion());
+        assertEquals(0, empty.getStudentCount());
+        assertEquals(0, empty.getStudentVersionSum());
+        assertTrue(classesRepository.findRosterVersionById(-1L).isEmpty());
+    }
 }
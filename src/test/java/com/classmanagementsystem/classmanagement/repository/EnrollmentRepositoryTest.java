@@ -0,0 +1,101 @@
+package com.classmanagementsystem.classmanagement.repository;
+
+import com.classmanagementsystem.classmanagement.dto.EnrollmentDTO;
+import com.classmanagementsystem.classmanagement.entity.Classes;
+import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.entity.Teacher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(EnrollmentRepository.class)
+public class EnrollmentRepositoryTest {
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Classes classes;
+    private Student enrolled;
+    private Student notEnrolled;
+
+    @BeforeEach
+    void setUp() {
+        Teacher teacher = entityManager.persist(new Teacher(null, "Prof. Oak", "Biology"));
+        enrolled = entityManager.persist(new Student(null, "Ash Ketchum", "ash@pokemon.com"));
+        notEnrolled = entityManager.persist(new Student(null, "Misty", "misty@pokemon.com"));
+        classes = entityManager.persist(new Classes(null, "Pokemon Training 101", teacher, new HashSet<>(Arrays.asList(enrolled))));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testFindExisting_ReturnsOnlyPairsInJoinTable() {
+        Set<EnrollmentDTO> existing = enrollmentRepository.findExisting(
+                List.of(classes.getId()), List.of(enrolled.getId(), notEnrolled.getId()));
+
+        assertEquals(Set.of(new EnrollmentDTO(classes.getId(), enrolled.getId())), existing);
+    }
+
+    @Test
+    void testFindExisting_EmptyIds_ReturnsEmptySet() {
+        assertTrue(enrollmentRepository.findExisting(List.of(), List.of(enrolled.getId())).isEmpty());
+    }
+
+    @Test
+    void testInsertAll_AddsStudentsToRoster() {
+        enrollmentRepository.insertAll(List.of(new EnrollmentDTO(classes.getId(), notEnrolled.getId())));
+
+        Classes reloaded = entityManager.find(Classes.class, classes.getId());
+        assertEquals(2, reloaded.getStudents().size());
+    }
+
+    @Test
+    void testInsertIfAbsent_NewPair_InsertsRow() {
+        assertTrue(enrollmentRepository.insertIfAbsent(classes.getId(), notEnrolled.getId()));
+
+        assertEquals(2, entityManager.find(Classes.class, classes.getId()).getStudents().size());
+    }
+
+    @Test
+    void testInsertIfAbsent_ExistingPair_ReturnsFalse() {
+        assertFalse(enrollmentRepository.insertIfAbsent(classes.getId(), enrolled.getId()));
+
+        assertEquals(1, entityManager.find(Classes.class, classes.getId()).getStudents().size());
+    }
+
+    @Test
+    void testDelete_RemovesOnlyThatPair() {
+        assertTrue(enrollmentRepository.delete(classes.getId(), enrolled.getId()));
+        assertFalse(enrollmentRepository.delete(classes.getId(), enrolled.getId()));
+
+        assertTrue(entityManager.find(Classes.class, classes.getId()).getStudents().isEmpty());
+    }
+
+    @Test
+    void testRosterChanges_IncrementClassVersion() {
+        long version = entityManager.find(Classes.class, classes.getId()).getVersion();
+        entityManager.clear();
+
+        enrollmentRepository.insertIfAbsent(classes.getId(), notEnrolled.getId());
+        enrollmentRepository.insertIfAbsent(classes.getId(), notEnrolled.getId());
+        enrollmentRepository.delete(classes.getId(), enrolled.getId());
+        enrollmentRepository.delete(classes.getId(), enrolled.getId());
+        enrollmentRepository.insertAll(List.of(new EnrollmentDTO(classes.getId(), enrolled.getId())));
+
+        assertEquals(version + 3, entityManager.find(Classes.class, classes.getId()).getVersion());
+    }
+}
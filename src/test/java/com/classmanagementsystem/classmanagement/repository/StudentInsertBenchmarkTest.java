@@ -0,0 +1,92 @@
+package com.classmanagementsystem.classmanagement.repository;
+
+import com.classmanagementsystem.classmanagement.entity.Student;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares insert throughput of IDENTITY ids (the previous mapping, one round trip per row) with the
+ * table-backed pooled ids now used by every entity (ids assigned in memory, inserts sent as JDBC batches).
+ * Excluded from the default build; run with {@code mvn test -Pbenchmarks}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+public class StudentInsertBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentInsertBenchmarkTest.class);
+
+    private static final int WARMUP_ROWS = 2_000;
+    private static final int ROWS = 20_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void compareIdentityAndPooledInsertThroughput() {
+        insert(WARMUP_ROWS, i -> new IdentityStudent("Warmup " + i, "warmup" + i + "@example.com"));
+        insert(WARMUP_ROWS, i -> new Student(null, "Warmup " + i, "warmup" + i + "@example.com"));
+
+        long identityNanos = insert(ROWS, i -> new IdentityStudent("Student " + i, "s" + i + "@example.com"));
+        long pooledNanos = insert(ROWS, i -> new Student(null, "Student " + i, "s" + i + "@example.com"));
+
+        logger.info("Inserted {} rows: IDENTITY {} rows/s, pooled table generator {} rows/s ({}x)",
+                ROWS, rowsPerSecond(identityNanos), rowsPerSecond(pooledNanos),
+                String.format("%.2f", (double) identityNanos / pooledNanos));
+        assertTrue(pooledNanos > 0 && identityNanos > 0);
+    }
+
+    private long insert(int rows, IntFunction<Object> factory) {
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            entityManager.persist(factory.apply(i));
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return System.nanoTime() - start;
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return ROWS * 1_000_000_000L / nanos;
+    }
+
+    /**
+     * Same columns as {@link Student}, mapped with the IDENTITY strategy the entities used before.
+     */
+    @Entity
+    static class IdentityStudent {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private String name;
+
+        private String email;
+
+        protected IdentityStudent() {
+        }
+
+        IdentityStudent(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+    }
+}
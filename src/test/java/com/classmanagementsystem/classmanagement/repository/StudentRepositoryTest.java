@@ -6,7 +6,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -92,4 +94,35 @@ public class StudentRepositoryTest {
         Optional<Student> found = studentRepository.findByEmail("nonexistent@example.com");
         assertFalse(found.isPresent());
     }
+
+    @Test
+    void testFindByIdGreaterThan_SeeksPageByPage() {
+        Student student3 = new Student(null, "Carol", "carol@example.com");
+        entityManager.persist(student1);
+        entityManager.persist(student2);
+        entityManager.persist(student3);
+        entityManager.flush();
+
+        List<Student> firstPage = studentRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+        assertEquals(2, firstPage.size());
+        assertEquals(student1.getId(), firstPage.get(0).getId());
+        assertEquals(student2.getId(), firstPage.get(1).getId());
+
+        List<Student> secondPage = studentRepository.findByIdGreaterThanOrderByIdAsc(firstPage.get(1).getId(), Limit.of(2));
+        assertEquals(1, secondPage.size());
+        assertEquals(student3.getId(), secondPage.get(0).getId());
+    }
+
+    @Test
+    void testFindVersionById_IncrementsOnUpdate() {
+        entityManager.persist(student1);
+        entityManager.flush();
+        long version = studentRepository.findVersionById(student1.getId()).orElseThrow();
+
+        student1.setName("Alicia");
+        entityManager.flush();
+
+        assertEquals(version + 1, studentRepository.findVersionById(student1.getId()).orElseThrow());
+        assertTrue(studentRepository.findVersionById(99L).isEmpty());
+    }
 }
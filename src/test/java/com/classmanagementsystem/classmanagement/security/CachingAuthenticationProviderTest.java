@@ -0,0 +1,133 @@
+package com.classmanagementsystem.classmanagement.security;
+
+import com.classmanagementsystem.classmanagement.entity.Role;
+import com.classmanagementsystem.classmanagement.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingAuthenticationProviderTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private AuthenticationProvider delegate;
+
+    @Mock
+    private UserDetailsChecker userDetailsChecker;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private CachingAuthenticationProvider provider;
+    private CustomUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        provider = new CachingAuthenticationProvider(delegate, 100, TTL, nanos::get, userDetailsChecker);
+        User user = new User(1L, "Test User", "testuser", "test@example.com", "{bcrypt}hash",
+                Set.of(new Role(1L, "ROLE_USER")));
+        userDetails = new CustomUserDetails(user);
+    }
+
+    private void delegateAccepts() {
+        when(delegate.authenticate(any(Authentication.class))).thenReturn(
+                UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @Test
+    void authenticate_SameCredentialsTwice_DelegatesOnce() {
+        delegateAccepts();
+
+        Authentication first = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret"));
+        Authentication second = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret"));
+
+        assertTrue(first.isAuthenticated());
+        assertTrue(second.isAuthenticated());
+        assertSame(userDetails, second.getPrincipal());
+        assertEquals("ROLE_USER", second.getAuthorities().iterator().next().getAuthority());
+        verify(delegate, times(1)).authenticate(any(Authentication.class));
+    }
+
+    @Test
+    void authenticate_CachedPrincipal_HoldsNoPasswordHash() {
+        delegateAccepts();
+
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret"));
+        Authentication cached = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret"));
+
+        assertNull(((CustomUserDetails) cached.getPrincipal()).getPassword());
+    }
+
+    @Test
+    void authenticate_CacheHit_ChecksAccountStatusAgain() {
+        delegateAccepts();
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret"));
+
+        doThrow(new DisabledException("User is disabled")).when(userDetailsChecker).check(userDetails);
+
+        assertThrows(DisabledException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret")));
+        assertEquals(0, provider.size());
+    }
+
+    @Test
+    void authenticate_DifferentPassword_IsNotServedFromCache() {
+        delegateAccepts();
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret"));
+
+        when(delegate.authenticate(any(Authentication.class))).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThrows(BadCredentialsException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "wrong")));
+    }
+
+    @Test
+    void authenticate_FailedAttempt_IsNotCached() {
+        when(delegate.authenticate(any(Authentication.class))).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThrows(BadCredentialsException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "wrong")));
+        assertEquals(0, provider.size());
+    }
+
+    @Test
+    void authenticate_AfterTtl_DelegatesAgain() {
+        delegateAccepts();
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret"));
+
+        nanos.addAndGet(TTL.plusSeconds(1).toNanos());
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret"));
+
+        verify(delegate, times(2)).authenticate(any(Authentication.class));
+    }
+
+    @Test
+    void evictUser_RemovesCachedCredentials() {
+        delegateAccepts();
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret"));
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("test@example.com", "secret"));
+        assertEquals(2, provider.size());
+
+        provider.evictUser(1L);
+
+        assertEquals(0, provider.size());
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("testuser", "secret"));
+        verify(delegate, times(3)).authenticate(any(Authentication.class));
+    }
+}
@@ -0,0 +1,101 @@
+package com.classmanagementsystem.classmanagement.security;
+
+import com.classmanagementsystem.classmanagement.entity.Role;
+import com.classmanagementsystem.classmanagement.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenServiceTest {
+
+    private static final String SECRET = "test-token-secret-0123456789abcdef0123456789";
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private TokenService tokenService;
+    private CustomUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = tokenServiceAt(NOW);
+        User user = new User(7L, "Test User", "testuser", "test@example.com", "encoded",
+                Set.of(new Role(1L, "ROLE_USER"), new Role(2L, "ROLE_ADMIN")));
+        userDetails = new CustomUserDetails(user);
+    }
+
+    private static TokenService tokenServiceAt(Instant instant) {
+        return new TokenService(SECRET, Duration.ofMinutes(15), Duration.ofDays(7), Clock.fixed(instant, ZoneOffset.UTC));
+    }
+
+    @Test
+    void authenticate_AccessToken_RestoresIdentityAndAuthorities() {
+        Authentication authentication = tokenService.authenticate(tokenService.issueAccessToken(userDetails));
+
+        assertTrue(authentication.isAuthenticated());
+        TokenPrincipal principal = (TokenPrincipal) authentication.getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("testuser", principal.getName());
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void authenticate_TamperedPayload_IsRejected() {
+        String token = tokenService.issueAccessToken(userDetails);
+        String tampered = "x" + token.substring(1);
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.authenticate(tampered));
+    }
+
+    @Test
+    void authenticate_TokenSignedWithOtherSecret_IsRejected() {
+        TokenService other = new TokenService("another-secret-0123456789abcdef0123456789", Duration.ofMinutes(15),
+                Duration.ofDays(7), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.authenticate(other.issueAccessToken(userDetails)));
+    }
+
+    @Test
+    void authenticate_ExpiredToken_IsRejected() {
+        String token = tokenService.issueAccessToken(userDetails);
+
+        TokenService later = tokenServiceAt(NOW.plus(Duration.ofMinutes(16)));
+        assertThrows(BadCredentialsException.class, () -> later.authenticate(token));
+    }
+
+    @Test
+    void authenticate_RefreshToken_IsRejected() {
+        assertThrows(BadCredentialsException.class,
+                () -> tokenService.authenticate(tokenService.issueRefreshToken(userDetails)));
+    }
+
+    @Test
+    void authenticate_MalformedToken_IsRejected() {
+        assertThrows(BadCredentialsException.class, () -> tokenService.authenticate("not-a-token"));
+        assertThrows(BadCredentialsException.class, () -> tokenService.authenticate("a.b.c"));
+        assertThrows(BadCredentialsException.class, () -> tokenService.authenticate("%%%.%%%"));
+    }
+
+    @Test
+    void verifyRefreshToken_ReturnsUserIdAndRejectsAccessTokens() {
+        assertEquals(7L, tokenService.verifyRefreshToken(tokenService.issueRefreshToken(userDetails)));
+        assertThrows(BadCredentialsException.class,
+                () -> tokenService.verifyRefreshToken(tokenService.issueAccessToken(userDetails)));
+    }
+
+    @Test
+    void constructor_ShortSecret_IsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TokenService("short", Duration.ofMinutes(15), Duration.ofDays(7), Clock.systemUTC()));
+    }
+}
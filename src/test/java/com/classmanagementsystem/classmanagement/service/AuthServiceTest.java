@@ -1,6 +1,12 @@
 package com.classmanagementsystem.classmanagement.service;
 
 import com.classmanagementsystem.classmanagement.dto.LoginDto;
+import com.classmanagementsystem.classmanagement.dto.TokenResponseDTO;
+import com.classmanagementsystem.classmanagement.entity.Role;
+import com.classmanagementsystem.classmanagement.entity.User;
+import com.classmanagementsystem.classmanagement.repository.UserRepository;
+import com.classmanagementsystem.classmanagement.security.CustomUserDetails;
+import com.classmanagementsystem.classmanagement.security.TokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,7 +19,12 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,15 +33,23 @@ public class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private UserRepository userRepository;
+
     @InjectMocks
     private AuthService authService;
 
     private LoginDto loginDto;
+    private User user;
     private Authentication authentication;
 
     @BeforeEach
     void setUp() {
         loginDto = new LoginDto("testuser", "password");
+        user = new User(1L, "Test User", "testuser", "test@example.com", "encoded", Set.of(new Role(1L, "ROLE_USER")));
         authentication = mock(Authentication.class);
         // Clear SecurityContextHolder before each test to ensure isolation
         SecurityContextHolder.clearContext();
@@ -44,13 +63,20 @@ public class AuthServiceTest {
                 loginDto.getPassword()
         );
         when(authenticationManager.authenticate(authToken)).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(new CustomUserDetails(user));
+        when(tokenService.issueAccessToken(any(CustomUserDetails.class))).thenReturn("access");
+        when(tokenService.issueRefreshToken(any(CustomUserDetails.class))).thenReturn("refresh");
+        when(tokenService.getAccessTokenTtl()).thenReturn(Duration.ofMinutes(15));
 
         // When
-        String result = authService.login(loginDto);
+        TokenResponseDTO result = authService.login(loginDto);
 
         // Then
         assertNotNull(result);
-        assertEquals("User logged in successfully!", result);
+        assertEquals("access", result.getAccessToken());
+        assertEquals("refresh", result.getRefreshToken());
+        assertEquals("Bearer", result.getTokenType());
+        assertEquals(900, result.getExpiresIn());
         verify(authenticationManager, times(1)).authenticate(authToken);
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
         assertEquals(authentication, SecurityContextHolder.getContext().getAuthentication());
@@ -68,6 +94,31 @@ public class AuthServiceTest {
         // When & Then
         assertThrows(BadCredentialsException.class, () -> authService.login(loginDto));
         verify(authenticationManager, times(1)).authenticate(authToken);
+        verify(tokenService, never()).issueAccessToken(any(CustomUserDetails.class));
         assertNull(SecurityContextHolder.getContext().getAuthentication()); // Context should remain empty on failure
     }
+
+    @Test
+    void refresh_ValidToken_ReloadsUserAndIssuesNewTokens() {
+        when(tokenService.verifyRefreshToken("refresh")).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(tokenService.issueAccessToken(any(CustomUserDetails.class))).thenReturn("new-access");
+        when(tokenService.issueRefreshToken(any(CustomUserDetails.class))).thenReturn("new-refresh");
+        when(tokenService.getAccessTokenTtl()).thenReturn(Duration.ofMinutes(15));
+
+        TokenResponseDTO result = authService.refresh("refresh");
+
+        assertEquals("new-access", result.getAccessToken());
+        assertEquals("new-refresh", result.getRefreshToken());
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    void refresh_DeletedUser_ThrowsBadCredentials() {
+        when(tokenService.verifyRefreshToken("refresh")).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(BadCredentialsException.class, () -> authService.refresh("refresh"));
+        verify(tokenService, never()).issueAccessToken(any(CustomUserDetails.class));
+    }
 }
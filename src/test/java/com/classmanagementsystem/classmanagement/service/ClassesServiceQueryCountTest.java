@@ -0,0 +1,135 @@
+package com.classmanagementsystem.classmanagement.service;
+
+import com.classmanagementsystem.classmanagement.cache.ClassesJsonCache;
+import com.classmanagementsystem.classmanagement.concurrency.RequestCoalescer;
+import com.classmanagementsystem.classmanagement.dto.ClassesDTO;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
+import com.classmanagementsystem.classmanagement.entity.Classes;
+import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.entity.Teacher;
+import com.classmanagementsystem.classmanagement.index.ClassNameIndex;
+import com.classmanagementsystem.classmanagement.index.EnrollmentIndex;
+import com.classmanagementsystem.classmanagement.mapper.ClassesMapper;
+import com.classmanagementsystem.classmanagement.mapper.StudentMapper;
+import com.classmanagementsystem.classmanagement.mapper.TeacherMapper;
+import com.classmanagementsystem.classmanagement.repository.ClassesRepository;
+import com.classmanagementsystem.classmanagement.repository.EnrollmentRepository;
+import com.classmanagementsystem.classmanagement.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs ClassesService against a real H2 database and counts the SQL statements Hibernate prepares,
+ * so that the roster fetch plans cannot silently regress into one query per class.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(EnrollmentRepository.class)
+public class ClassesServiceQueryCountTest {
+
+    private static final int CLASS_COUNT = 5;
+
+    @Autowired
+    private ClassesRepository classesRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ClassesService classesService;
+    private Statistics statistics;
+    private Long firstClassId;
+
+    @BeforeEach
+    void setUp() {
+        classesService = new ClassesService(classesRepository, studentRepository, enrollmentRepository,
+                new EnrollmentIndex(enrollmentRepository), new ClassNameIndex(classesRepository),
+                new ClassesJsonCache(new ObjectMapper(), 1024 * 1024),
+                new ClassesMapper(new StudentMapper(), new TeacherMapper()), new RequestCoalescer(new SimpleMeterRegistry()),
+                entityManager.getEntityManager());
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            Teacher teacher = entityManager.persist(new Teacher(null, "Teacher " + i, "Subject " + i));
+            Student first = entityManager.persist(new Student(null, "Student " + i + "a", "s" + i + "a@example.com"));
+            Student second = entityManager.persist(new Student(null, "Student " + i + "b", "s" + i + "b@example.com"));
+            Classes classes = entityManager.persist(
+                    new Classes(null, "Class " + i, teacher, new HashSet<>(Arrays.asList(first, second))));
+            if (firstClassId == null) {
+                firstClassId = classes.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void getClassesPage_WalkingEveryPage_UsesTwoQueriesPerPage() {
+        List<ClassesDTO> all = new ArrayList<>();
+        int pages = 0;
+        String after = null;
+        do {
+            CursorPage<ClassesDTO> page = classesService.getClassesPage(after, 2);
+            all.addAll(page.getItems());
+            after = page.getNextCursor();
+            pages++;
+        } while (after != null);
+
+        assertEquals(CLASS_COUNT, all.size());
+        all.forEach(dto -> {
+            assertNotNull(dto.getTeacher().getName());
+            assertEquals(2, dto.getStudents().size());
+        });
+        assertEquals(2L * pages, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getClassesPage_UsesTwoQueriesRegardlessOfPageSize() {
+        CursorPage<ClassesDTO> page = classesService.getClassesPage(null, CLASS_COUNT - 1);
+
+        assertEquals(CLASS_COUNT - 1, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+        page.getItems().forEach(dto -> assertEquals(2, dto.getStudents().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getClassesById_LoadsTeacherAndRosterInOneQuery() {
+        ClassesDTO result = classesService.getClassesById(firstClassId);
+
+        assertEquals("Teacher 0", result.getTeacher().getName());
+        assertEquals(2, result.getStudents().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void exportClasses_StreamsIdsAndLoadsRostersInOneQueryPerChunk() {
+        List<ClassesDTO> exported = new ArrayList<>();
+        classesService.exportClasses(exported::add);
+
+        assertEquals(CLASS_COUNT, exported.size());
+        exported.forEach(dto -> assertEquals(2, dto.getStudents().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
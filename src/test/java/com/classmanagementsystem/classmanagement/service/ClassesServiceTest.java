@@ -1,27 +1,48 @@
 package com.classmanagementsystem.classmanagement.service;
 
+import com.classmanagementsystem.classmanagement.cache.ClassesJsonCache;
+import com.classmanagementsystem.classmanagement.concurrency.RequestCoalescer;
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.ClassSuggestionDTO;
 import com.classmanagementsystem.classmanagement.dto.ClassesDTO;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentDTO;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentResultDTO;
+import com.classmanagementsystem.classmanagement.dto.EnrollmentStatus;
 import com.classmanagementsystem.classmanagement.dto.StudentDTO;
 import com.classmanagementsystem.classmanagement.dto.TeacherDTO;
 import com.classmanagementsystem.classmanagement.entity.Classes;
 import com.classmanagementsystem.classmanagement.entity.Student;
 import com.classmanagementsystem.classmanagement.entity.Teacher;
+import com.classmanagementsystem.classmanagement.exception.BadRequestException;
 import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
+import com.classmanagementsystem.classmanagement.index.ClassNameIndex;
+import com.classmanagementsystem.classmanagement.index.EnrollmentIndex;
 import com.classmanagementsystem.classmanagement.mapper.ClassesMapper;
 import com.classmanagementsystem.classmanagement.repository.ClassesRepository;
+import com.classmanagementsystem.classmanagement.repository.EnrollmentRepository;
 import com.classmanagementsystem.classmanagement.repository.StudentRepository;
+import com.classmanagementsystem.classmanagement.util.CursorCodec;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,6 +59,24 @@ public class ClassesServiceTest {
     @Mock
     private ClassesMapper classesMapper;
 
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private EnrollmentIndex enrollmentIndex;
+
+    @Mock
+    private ClassNameIndex classNameIndex;
+
+    @Mock
+    private ClassesJsonCache classesJsonCache;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry());
+
     @InjectMocks
     private ClassesService classesService;
 
@@ -76,50 +115,123 @@ public class ClassesServiceTest {
         verify(classesRepository, times(1)).save(classes);
         verify(classesMapper, times(1)).toEntity(classesDTO);
         verify(classesMapper, times(1)).toDTO(classes);
+        verify(classNameIndex, times(1)).classSaved(classes.getId(), classes.getName());
     }
 
     @Test
-    void getAllClasses_ReturnsListOfClasses() {
-        List<Classes> classesList = Arrays.asList(classes, new Classes(101L, "Combat Training", teacher, new HashSet<>()));
-        List<ClassesDTO> classesDTOList = Arrays.asList(classesDTO, new ClassesDTO(101L, "Combat Training", teacherDTO, new HashSet<>()));
+    void getClassesPage_SeeksAfterCursor() {
+        when(classesRepository.findIdsByIdGreaterThan(100L, Limit.of(3))).thenReturn(Arrays.asList(101L));
+        when(classesRepository.findWithRosterByIdInOrderByIdAsc(Arrays.asList(101L)))
+                .thenReturn(Arrays.asList(new Classes(101L, "Combat Training", teacher, new HashSet<>())));
+        when(classesMapper.toDTO(any(Classes.class))).thenAnswer(invocation -> {
+            Classes c = invocation.getArgument(0);
+            return new ClassesDTO(c.getId(), c.getName(), null, null);
+        });
+
+        CursorPage<ClassesDTO> page = classesService.getClassesPage(CursorCodec.encode(100L), 2);
 
-        when(classesRepository.findAll()).thenReturn(classesList);
+        assertEquals(1, page.getItems().size());
+        assertEquals(101L, page.getItems().get(0).getId());
+        assertNull(page.getNextCursor());
+        verify(classesRepository, never()).findAll();
+    }
+
+    @Test
+    void exportClasses_StreamsIdsAndLoadsRostersPerChunk() {
+        Classes second = new Classes(101L, "Combat Training", teacher, new HashSet<>());
+        when(classesRepository.streamAllIds()).thenReturn(Stream.of(100L, 101L));
+        when(classesRepository.findWithRosterByIdInOrderByIdAsc(Arrays.asList(100L, 101L)))
+                .thenReturn(Arrays.asList(classes, second));
         when(classesMapper.toDTO(any(Classes.class))).thenAnswer(invocation -> {
             Classes c = invocation.getArgument(0);
-            // Simplified mapping for test, real mapper handles nested objects
             return new ClassesDTO(c.getId(), c.getName(), null, null);
         });
 
-        List<ClassesDTO> result = classesService.getAllClasses();
+        List<ClassesDTO> exported = new ArrayList<>();
+        classesService.exportClasses(exported::add);
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(classesRepository, times(1)).findAll();
-        verify(classesMapper, times(2)).toDTO(any(Classes.class));
+        assertEquals(2, exported.size());
+        assertEquals(100L, exported.get(0).getId());
+        assertEquals(101L, exported.get(1).getId());
+        verify(classesRepository, times(1)).findWithRosterByIdInOrderByIdAsc(anyList());
+        verify(entityManager, times(1)).clear();
+        verify(classesRepository, never()).findAll();
+    }
+
+    @Test
+    void exportClasses_EmptyTable_WritesNothing() {
+        when(classesRepository.streamAllIds()).thenReturn(Stream.empty());
+
+        List<ClassesDTO> exported = new ArrayList<>();
+        classesService.exportClasses(exported::add);
+
+        assertTrue(exported.isEmpty());
+        verify(classesRepository, never()).findWithRosterByIdInOrderByIdAsc(anyList());
+    }
+
+    @Test
+    void getClassesByIds_LoadsRostersInOneQuery_AndListsMissingIds() {
+        when(classesRepository.findWithRosterByIdInOrderByIdAsc(List.of(101L, 100L))).thenReturn(List.of(classes));
+        when(classesMapper.toDTO(classes)).thenReturn(classesDTO);
+
+        BatchGetResult<ClassesDTO> result = classesService.getClassesByIds(List.of(101L, 100L));
+
+        assertEquals(List.of(classesDTO), result.getItems());
+        assertEquals(List.of(101L), result.getMissingIds());
+        verify(classesRepository, never()).findWithRosterById(anyLong());
     }
 
     @Test
     void getClassesById_Found() {
-        when(classesRepository.findById(100L)).thenReturn(Optional.of(classes));
+        when(classesRepository.findWithRosterById(100L)).thenReturn(Optional.of(classes));
         when(classesMapper.toDTO(classes)).thenReturn(classesDTO);
 
         ClassesDTO foundClasses = classesService.getClassesById(100L);
 
         assertNotNull(foundClasses);
         assertEquals(classesDTO.getId(), foundClasses.getId());
-        verify(classesRepository, times(1)).findById(100L);
+        verify(classesRepository, times(1)).findWithRosterById(100L);
         verify(classesMapper, times(1)).toDTO(classes);
+        verify(requestCoalescer, times(1)).execute(eq("classes"), eq(100L), any());
     }
 
     @Test
     void getClassesById_NotFound_ThrowsException() {
-        when(classesRepository.findById(100L)).thenReturn(Optional.empty());
+        when(classesRepository.findWithRosterById(100L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> classesService.getClassesById(100L));
-        verify(classesRepository, times(1)).findById(100L);
+        verify(classesRepository, times(1)).findWithRosterById(100L);
         verify(classesMapper, never()).toDTO(any(Classes.class));
     }
 
+    @Test
+    void getClassesJson_LoadsThroughTheCache() {
+        byte[] json = "{}".getBytes();
+        when(classesJsonCache.get(eq(100L), eq("3-1-1-0"), any())).thenAnswer(invocation -> {
+            assertSame(classesDTO, invocation.<Supplier<ClassesDTO>>getArgument(2).get());
+            return json;
+        });
+        when(classesRepository.findWithRosterById(100L)).thenReturn(Optional.of(classes));
+        when(classesMapper.toDTO(classes)).thenReturn(classesDTO);
+
+        assertSame(json, classesService.getClassesJson(100L, "3-1-1-0"));
+    }
+
+    @Test
+    void getClassesETag_CombinesClassTeacherAndStudentVersions() {
+        ClassesRepository.RosterVersion version = mock(ClassesRepository.RosterVersion.class);
+        when(version.getClassVersion()).thenReturn(3L);
+        when(version.getTeacherVersion()).thenReturn(1L);
+        when(version.getStudentCount()).thenReturn(2L);
+        when(version.getStudentVersionSum()).thenReturn(5L);
+        when(classesRepository.findRosterVersionById(100L)).thenReturn(Optional.of(version));
+        when(classesRepository.findRosterVersionById(101L)).thenReturn(Optional.empty());
+
+        assertEquals("3-1-2-5", classesService.getClassesETag(100L));
+        assertThrows(ResourceNotFoundException.class, () -> classesService.getClassesETag(101L));
+        verify(classesRepository, never()).findWithRosterById(any());
+    }
+
     @Test
     void updateClasses_FoundAndUpdated() {
         ClassesDTO updatedClassesDTO = new ClassesDTO(100L, "Advanced Telekinesis", teacherDTO, new HashSet<>());
@@ -136,6 +248,8 @@ public class ClassesServiceTest {
         verify(classesRepository, times(1)).findById(100L);
         verify(classesRepository, times(1)).save(any(Classes.class));
         verify(classesMapper, times(1)).toDTO(updatedClassesEntity);
+        verify(classNameIndex, times(1)).classSaved(100L, "Advanced Telekinesis");
+        verify(classesJsonCache, times(1)).evict(100L);
     }
 
     @Test
@@ -158,6 +272,9 @@ public class ClassesServiceTest {
 
         verify(classesRepository, times(1)).findById(100L);
         verify(classesRepository, times(1)).delete(classes);
+        verify(enrollmentIndex, times(1)).classRemoved(100L);
+        verify(classNameIndex, times(1)).classRemoved(100L);
+        verify(classesJsonCache, times(1)).evict(100L);
     }
 
     @Test
@@ -171,41 +288,149 @@ public class ClassesServiceTest {
 
     @Test
     void enrollStudentInClasses_Success() {
-        Classes classesBeforeEnroll = new Classes(100L, "Telekinesis 101", teacher, new HashSet<>());
-        Classes classesAfterEnroll = new Classes(100L, "Telekinesis 101", teacher, new HashSet<>(Arrays.asList(student)));
+        when(classesRepository.existsById(100L)).thenReturn(true);
+        when(studentRepository.findById(10L)).thenReturn(Optional.of(student));
+        when(enrollmentRepository.insertIfAbsent(100L, 10L)).thenReturn(true);
+        when(classesRepository.findWithRosterById(100L)).thenReturn(Optional.of(classes));
+        when(classesMapper.toDTO(classes)).thenReturn(classesDTO);
 
-        when(classesRepository.findById(100L)).thenReturn(Optional.of(classesBeforeEnroll));
+        ClassesDTO result = classesService.enrollStudentInClasses(100L, 10L);
+
+        assertSame(classesDTO, result);
+        verify(enrollmentRepository, times(1)).insertIfAbsent(100L, 10L);
+        verify(enrollmentIndex, times(1)).enrolled(100L, 10L);
+        verify(classesJsonCache, times(1)).evict(100L);
+        verify(classesRepository, times(1)).findWithRosterById(100L);
+        verify(classesRepository, never()).save(any(Classes.class));
+    }
+
+    @Test
+    void enrollStudentInClasses_AlreadyEnrolled_ReturnsClass() {
+        when(classesRepository.existsById(100L)).thenReturn(true);
         when(studentRepository.findById(10L)).thenReturn(Optional.of(student));
-        when(classesRepository.save(any(Classes.class))).thenReturn(classesAfterEnroll);
-        when(classesMapper.toDTO(classesAfterEnroll)).thenReturn(classesDTO);
+        when(enrollmentRepository.insertIfAbsent(100L, 10L)).thenReturn(false);
+        when(classesRepository.findWithRosterById(100L)).thenReturn(Optional.of(classes));
+        when(classesMapper.toDTO(classes)).thenReturn(classesDTO);
 
         ClassesDTO result = classesService.enrollStudentInClasses(100L, 10L);
 
-        assertNotNull(result);
-        assertEquals(1, result.getStudents().size());
-        verify(classesRepository, times(1)).findById(100L);
-        verify(studentRepository, times(1)).findById(10L);
-        verify(classesRepository, times(1)).save(any(Classes.class));
-        verify(classesMapper, times(1)).toDTO(classesAfterEnroll);
+        assertSame(classesDTO, result);
+        verify(classesJsonCache, never()).evict(anyLong());
     }
 
     @Test
     void enrollStudentInClasses_ClassesNotFound_ThrowsException() {
-        when(classesRepository.findById(100L)).thenReturn(Optional.empty());
+        when(classesRepository.existsById(100L)).thenReturn(false);
 
-        assertThrows(RuntimeException.class, () -> classesService.enrollStudentInClasses(100L, 10L));
-        verify(classesRepository, times(1)).findById(100L);
+        assertThrows(ResourceNotFoundException.class, () -> classesService.enrollStudentInClasses(100L, 10L));
         verify(studentRepository, never()).findById(anyLong());
+        verify(enrollmentRepository, never()).insertIfAbsent(anyLong(), anyLong());
     }
 
     @Test
     void enrollStudentInClasses_StudentNotFound_ThrowsException() {
-        when(classesRepository.findById(100L)).thenReturn(Optional.of(classes));
+        when(classesRepository.existsById(100L)).thenReturn(true);
         when(studentRepository.findById(10L)).thenReturn(Optional.empty());
 
-        assertThrows(RuntimeException.class, () -> classesService.enrollStudentInClasses(100L, 10L));
-        verify(classesRepository, times(1)).findById(100L);
-        verify(studentRepository, times(1)).findById(10L);
+        assertThrows(ResourceNotFoundException.class, () -> classesService.enrollStudentInClasses(100L, 10L));
+        verify(enrollmentRepository, never()).insertIfAbsent(anyLong(), anyLong());
+        verify(enrollmentIndex, never()).enrolled(anyLong(), anyLong());
+    }
+
+    @Test
+    void unenrollStudentFromClasses_RowDeleted_SkipsExistenceChecks() {
+        when(enrollmentRepository.delete(100L, 10L)).thenReturn(true);
+
+        classesService.unenrollStudentFromClasses(100L, 10L);
+
+        verify(enrollmentIndex, times(1)).unenrolled(100L, 10L);
+        verify(classesJsonCache, times(1)).evict(100L);
+        verify(classesRepository, never()).existsById(anyLong());
+        verify(studentRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void unenrollStudentFromClasses_NotEnrolled_DoesNothing() {
+        when(enrollmentRepository.delete(100L, 10L)).thenReturn(false);
+        when(classesRepository.existsById(100L)).thenReturn(true);
+        when(studentRepository.existsById(10L)).thenReturn(true);
+
+        assertDoesNotThrow(() -> classesService.unenrollStudentFromClasses(100L, 10L));
+    }
+
+    @Test
+    void unenrollStudentFromClasses_ClassesNotFound_ThrowsException() {
+        when(enrollmentRepository.delete(100L, 10L)).thenReturn(false);
+        when(classesRepository.existsById(100L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> classesService.unenrollStudentFromClasses(100L, 10L));
+    }
+
+    @Test
+    void enrollStudentsInClasses_ReportsStatusPerPairAndInsertsOnlyNewOnes() {
+        List<EnrollmentDTO> request = Arrays.asList(
+                new EnrollmentDTO(100L, 10L),
+                new EnrollmentDTO(100L, 11L),
+                new EnrollmentDTO(100L, 10L),
+                new EnrollmentDTO(999L, 10L),
+                new EnrollmentDTO(100L, 99L));
+
+        when(classesRepository.findExistingIds(anyCollection())).thenReturn(List.of(100L));
+        when(studentRepository.findExistingIds(anyCollection())).thenReturn(List.of(10L, 11L));
+        when(enrollmentRepository.findExisting(anyCollection(), anyCollection()))
+                .thenReturn(new HashSet<>(List.of(new EnrollmentDTO(100L, 11L))));
+
+        List<EnrollmentResultDTO> results = classesService.enrollStudentsInClasses(request);
+
+        assertEquals(5, results.size());
+        assertEquals(EnrollmentStatus.ENROLLED, results.get(0).getStatus());
+        assertEquals(EnrollmentStatus.ALREADY_ENROLLED, results.get(1).getStatus());
+        assertEquals(EnrollmentStatus.DUPLICATE_IN_REQUEST, results.get(2).getStatus());
+        assertEquals(EnrollmentStatus.CLASS_NOT_FOUND, results.get(3).getStatus());
+        assertEquals(EnrollmentStatus.STUDENT_NOT_FOUND, results.get(4).getStatus());
+        verify(enrollmentRepository, times(1)).insertAll(List.of(new EnrollmentDTO(100L, 10L)));
+        verify(enrollmentIndex, times(1)).enrolledAll(List.of(new EnrollmentDTO(100L, 10L)));
+        verify(classesJsonCache, times(1)).evict(100L);
+        verify(classesJsonCache, never()).evict(999L);
         verify(classesRepository, never()).save(any(Classes.class));
     }
+
+    @Test
+    void enrollStudentsInClasses_LargeRequest_ValidatesInChunks() {
+        List<EnrollmentDTO> request = new ArrayList<>();
+        for (long i = 0; i < ClassesService.ENROLLMENT_CHUNK_SIZE + 1; i++) {
+            request.add(new EnrollmentDTO(100L, i));
+        }
+        when(classesRepository.findExistingIds(anyCollection())).thenReturn(List.of(100L));
+        when(studentRepository.findExistingIds(anyCollection())).thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<Long>>getArgument(0)));
+        when(enrollmentRepository.findExisting(anyCollection(), anyCollection())).thenReturn(new HashSet<>());
+
+        List<EnrollmentResultDTO> results = classesService.enrollStudentsInClasses(request);
+
+        assertEquals(request.size(), results.size());
+        assertTrue(results.stream().allMatch(r -> r.getStatus() == EnrollmentStatus.ENROLLED));
+        verify(classesRepository, times(2)).findExistingIds(anyCollection());
+        verify(enrollmentRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    void getSharedStudentIds_AnsweredFromIndex() {
+        when(enrollmentIndex.getSharedStudentIds(100L, 101L)).thenReturn(List.of(10L, 12L));
+
+        assertEquals(List.of(10L, 12L), classesService.getSharedStudentIds(100L, 101L));
+        assertFalse(classesService.getEnrollment(100L, 11L).isEnrolled());
+        verifyNoInteractions(classesRepository, studentRepository, enrollmentRepository);
+    }
+
+    @Test
+    void suggestClasses_AnsweredFromIndexWithCappedLimit() {
+        List<ClassSuggestionDTO> suggestions = List.of(new ClassSuggestionDTO(100L, "Telekinesis"));
+        when(classNameIndex.suggest("tele", 10)).thenReturn(suggestions);
+        when(classNameIndex.suggest("tele", 50)).thenReturn(suggestions);
+
+        assertEquals(suggestions, classesService.suggestClasses("tele", null));
+        assertEquals(suggestions, classesService.suggestClasses("tele", 1000));
+        assertThrows(BadRequestException.class, () -> classesService.suggestClasses("tele", 0));
+        verifyNoInteractions(classesRepository);
+    }
 }
@@ -0,0 +1,153 @@
+package com.classmanagementsystem.classmanagement.service;
+
+import com.classmanagementsystem.classmanagement.dto.StudentImportResultDTO;
+import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.index.SearchIndex;
+import com.classmanagementsystem.classmanagement.mapper.StudentMapper;
+import com.classmanagementsystem.classmanagement.repository.StudentRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+public class StudentImportServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_FIELD_LENGTH = 40;
+    private static final int MAX_ROW_LENGTH = 60;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final SearchIndex searchIndex = mock(SearchIndex.class);
+
+    private StudentImportService studentImportService;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository.deleteAll();
+        studentImportService = new StudentImportService(studentRepository, new StudentMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager,
+                entityManager.getEntityManager(), searchIndex, BATCH_SIZE, MAX_FIELD_LENGTH, MAX_ROW_LENGTH);
+    }
+
+    @Test
+    void importStudents_ValidRowsAcrossSeveralBatches_AreAllSaved() throws IOException {
+        String csv = "name,email\n"
+                + "Alice Smith,alice@example.com\n"
+                + "Bob Jones,bob@example.com\r\n"
+                + "\"Carter, Dana\",dana@example.com\n"
+                + "\n"
+                + "Eve Adams,eve@example.com";
+
+        StudentImportResultDTO result = studentImportService.importStudents(new StringReader(csv));
+
+        assertEquals(4, result.getAccepted());
+        assertEquals(0, result.getRejected());
+        List<Student> saved = studentRepository.findAll();
+        assertEquals(4, saved.size());
+        assertTrue(saved.stream().allMatch(s -> s.getId() != null));
+        assertTrue(saved.stream().anyMatch(s -> s.getName().equals("Carter, Dana")));
+        verify(searchIndex, times(2)).studentsSaved(anyCollection());
+    }
+
+    @Test
+    void importStudents_InvalidRows_AreRejectedWithLineNumbers() throws IOException {
+        String csv = "Alice Smith,alice@example.com\n"
+                + "Bob Jones,not-an-email\n"
+                + "Only one column\n"
+                + "A,a@example.com\n";
+
+        StudentImportResultDTO result = studentImportService.importStudents(new StringReader(csv));
+
+        assertEquals(1, result.getAccepted());
+        assertEquals(3, result.getRejected());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        assertEquals("Student email must be a valid email address", result.getErrors().get(0).getMessage());
+        assertEquals(3, result.getErrors().get(1).getLine());
+        assertEquals("Expected 2 columns (name,email) but found 1", result.getErrors().get(1).getMessage());
+        assertEquals(4, result.getErrors().get(2).getLine());
+        assertEquals(1, studentRepository.count());
+    }
+
+    @Test
+    void importStudents_ManyInvalidRows_CapsReportedErrors() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        int invalidRows = StudentImportResultDTO.MAX_REPORTED_ERRORS + 5;
+        for (int i = 0; i < invalidRows; i++) {
+            csv.append("Student ").append(i).append(",invalid\n");
+        }
+
+        StudentImportResultDTO result = studentImportService.importStudents(new StringReader(csv.toString()));
+
+        assertEquals(invalidRows, result.getRejected());
+        assertEquals(StudentImportResultDTO.MAX_REPORTED_ERRORS, result.getErrors().size());
+    }
+
+    @Test
+    void importStudents_UnterminatedQuote_KeepsEarlierRowsAndReportsTheLine() throws IOException {
+        String csv = "Alice Smith,alice@example.com\n"
+                + "Bob Jones,bob@example.com\n"
+                + "Carol White,carol@example.com\n"
+                + "\"Dana,dana@example.com\n"
+                + "Eve Adams,eve@example.com\n";
+
+        StudentImportResultDTO result = studentImportService.importStudents(new StringReader(csv));
+
+        assertFalse(result.isComplete());
+        assertEquals(3, result.getAccepted());
+        assertEquals(1, result.getRejected());
+        assertEquals(4, result.getErrors().get(0).getLine());
+        assertEquals(3, studentRepository.count());
+    }
+
+    @Test
+    void importStudents_RowsOverTheLengthLimits_AreRejectedAndTheImportContinues() throws IOException {
+        String csv = "Alice Smith,alice@example.com\n"
+                + "\"" + "x\n".repeat(5_000) + "\",long@example.com\n"
+                + "a,".repeat(100) + "a\n"
+                + "Bob Jones,bob@example.com\n";
+
+        StudentImportResultDTO result = studentImportService.importStudents(new StringReader(csv));
+
+        assertTrue(result.isComplete());
+        assertEquals(2, result.getAccepted());
+        assertEquals(2, result.getRejected());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        assertEquals("Field longer than 40 characters on line 2; the row was skipped",
+                result.getErrors().get(0).getMessage());
+        assertEquals(5_003, result.getErrors().get(1).getLine());
+        assertEquals("Row longer than 60 characters on line 5003; the row was skipped",
+                result.getErrors().get(1).getMessage());
+        assertEquals(2, studentRepository.count());
+    }
+
+    @Test
+    void importStudents_QuoteInsideUnquotedField_IsKeptAsText() throws IOException {
+        String csv = "  \"Quoted\" Name,quoted@example.com\n"
+                + "Dana \"DJ\" Lee,dj@example.com\n";
+
+        StudentImportResultDTO result = studentImportService.importStudents(new StringReader(csv));
+
+        assertTrue(result.isComplete());
+        assertEquals(2, result.getAccepted());
+        assertTrue(studentRepository.findAll().stream().anyMatch(s -> s.getName().equals("Dana \"DJ\" Lee")));
+    }
+}
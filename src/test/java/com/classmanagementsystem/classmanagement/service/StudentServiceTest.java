@@ -1,20 +1,35 @@
 package com.classmanagementsystem.classmanagement.service;
 
+import com.classmanagementsystem.classmanagement.concurrency.BatchLoader;
+import com.classmanagementsystem.classmanagement.concurrency.RequestCoalescer;
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.ClassSummaryDTO;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.StudentDTO;
 import com.classmanagementsystem.classmanagement.entity.Student;
+import com.classmanagementsystem.classmanagement.exception.BadRequestException;
 import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
+import com.classmanagementsystem.classmanagement.index.EnrollmentIndex;
+import com.classmanagementsystem.classmanagement.index.SearchIndex;
 import com.classmanagementsystem.classmanagement.mapper.StudentMapper;
+import com.classmanagementsystem.classmanagement.repository.ClassesRepository;
 import com.classmanagementsystem.classmanagement.repository.StudentRepository;
+import com.classmanagementsystem.classmanagement.util.CursorCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,6 +43,21 @@ public class StudentServiceTest {
     @Mock
     private StudentMapper studentMapper;
 
+    @Mock
+    private ClassesRepository classesRepository;
+
+    @Mock
+    private EnrollmentIndex enrollmentIndex;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry());
+
+    @Spy
+    private BatchLoader batchLoader = new BatchLoader(Duration.ZERO, 100, new SimpleMeterRegistry());
+
     @InjectMocks
     private StudentService studentService;
 
@@ -53,25 +83,67 @@ public class StudentServiceTest {
         verify(studentRepository, times(1)).save(student);
         verify(studentMapper, times(1)).toEntity(studentDTO);
         verify(studentMapper, times(1)).toDTO(student);
+        verify(searchIndex, times(1)).studentSaved(student);
     }
 
     @Test
-    void getAllStudents_ReturnsListOfStudents() {
-        List<Student> students = Arrays.asList(student, new Student(2L, "Jane Doe", "jane.doe@example.com"));
-        List<StudentDTO> studentDTOs = Arrays.asList(studentDTO, new StudentDTO(2L, "Jane Doe", "jane.doe@example.com"));
+    void getStudentsPage_FirstPage_ReturnsNextCursor() {
+        List<Student> rows = Arrays.asList(student, new Student(2L, "Jane Doe", "jane.doe@example.com"));
+        when(studentRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(rows);
+        when(studentMapper.toDTO(student)).thenReturn(studentDTO);
+
+        CursorPage<StudentDTO> page = studentService.getStudentsPage(null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(1, page.getLimit());
+        assertEquals(1L, CursorCodec.decode(page.getNextCursor()));
+        verify(studentMapper, times(1)).toDTO(any(Student.class));
+    }
 
-        when(studentRepository.findAll()).thenReturn(students);
+    @Test
+    void getStudentsPage_LastPage_HasNoNextCursor() {
+        when(studentRepository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(CursorPage.DEFAULT_LIMIT + 1)))
+                .thenReturn(Arrays.asList(new Student(2L, "Jane Doe", "jane.doe@example.com")));
         when(studentMapper.toDTO(any(Student.class))).thenAnswer(invocation -> {
             Student s = invocation.getArgument(0);
             return new StudentDTO(s.getId(), s.getName(), s.getEmail());
         });
 
-        List<StudentDTO> result = studentService.getAllStudents();
+        CursorPage<StudentDTO> page = studentService.getStudentsPage(CursorCodec.encode(1L), null);
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(studentRepository, times(1)).findAll();
-        verify(studentMapper, times(2)).toDTO(any(Student.class));
+        assertEquals(1, page.getItems().size());
+        assertEquals(2L, page.getItems().get(0).getId());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getStudentsPage_InvalidCursor_ThrowsException() {
+        assertThrows(BadRequestException.class, () -> studentService.getStudentsPage("not-a-cursor", 10));
+        verify(studentRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void getStudentsByIds_ReturnsRequestedOrderAndMissingIds() {
+        Student jane = new Student(2L, "Jane Doe", "jane.doe@example.com");
+        when(studentRepository.findAllById(List.of(2L, 99L, 1L))).thenReturn(Arrays.asList(student, jane));
+        when(studentMapper.toDTO(any(Student.class))).thenAnswer(invocation -> {
+            Student s = invocation.getArgument(0);
+            return new StudentDTO(s.getId(), s.getName(), s.getEmail());
+        });
+
+        BatchGetResult<StudentDTO> result = studentService.getStudentsByIds(List.of(2L, 99L, 1L, 2L));
+
+        assertEquals(List.of(2L, 1L), result.getItems().stream().map(StudentDTO::getId).toList());
+        assertEquals(List.of(99L), result.getMissingIds());
+        verify(studentRepository, times(1)).findAllById(List.of(2L, 99L, 1L));
+    }
+
+    @Test
+    void getStudentsByIds_TooManyIds_ThrowsBadRequest() {
+        List<Long> ids = LongStream.rangeClosed(1, BatchGetResult.MAX_IDS + 1).boxed().toList();
+
+        assertThrows(BadRequestException.class, () -> studentService.getStudentsByIds(ids));
+        verify(studentRepository, never()).findAllById(any());
     }
 
     @Test
@@ -85,6 +157,7 @@ public class StudentServiceTest {
         assertEquals(studentDTO.getId(), foundStudent.getId());
         verify(studentRepository, times(1)).findById(1L);
         verify(studentMapper, times(1)).toDTO(student);
+        verify(requestCoalescer, times(1)).execute(eq("student"), eq(1L), any());
     }
 
     @Test
@@ -96,6 +169,16 @@ public class StudentServiceTest {
         verify(studentMapper, never()).toDTO(any(Student.class));
     }
 
+    @Test
+    void getStudentETag_ReadsOnlyTheVersion() {
+        when(studentRepository.findVersionById(1L)).thenReturn(Optional.of(4L));
+        when(studentRepository.findVersionById(2L)).thenReturn(Optional.empty());
+
+        assertEquals("4", studentService.getStudentETag(1L));
+        assertThrows(ResourceNotFoundException.class, () -> studentService.getStudentETag(2L));
+        verify(studentRepository, never()).findById(any());
+    }
+
     @Test
     void updateStudent_FoundAndUpdated() {
         StudentDTO updatedStudentDTO = new StudentDTO(1L, "Johnathan Doe", "johnathan.doe@example.com");
@@ -113,6 +196,7 @@ public class StudentServiceTest {
         verify(studentRepository, times(1)).findById(1L);
         verify(studentRepository, times(1)).save(any(Student.class));
         verify(studentMapper, times(1)).toDTO(updatedStudentEntity);
+        verify(searchIndex, times(1)).studentSaved(updatedStudentEntity);
     }
 
     @Test
@@ -135,6 +219,8 @@ public class StudentServiceTest {
 
         verify(studentRepository, times(1)).findById(1L);
         verify(studentRepository, times(1)).delete(student);
+        verify(enrollmentIndex, times(1)).studentRemoved(1L);
+        verify(searchIndex, times(1)).studentRemoved(1L);
     }
 
     @Test
@@ -145,4 +231,29 @@ public class StudentServiceTest {
         verify(studentRepository, times(1)).findById(1L);
         verify(studentRepository, never()).delete(any(Student.class));
     }
+
+    @Test
+    void getClassesOfStudent_ReturnsSummariesWithoutExistenceCheck() {
+        List<ClassSummaryDTO> summaries = List.of(new ClassSummaryDTO(100L, "Math 101", 5L, "Jane Smith"));
+        when(classesRepository.findSummariesByStudentId(1L)).thenReturn(summaries);
+
+        assertEquals(summaries, studentService.getClassesOfStudent(1L));
+        verify(studentRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void getClassesOfStudent_NoClasses_ReturnsEmptyList() {
+        when(classesRepository.findSummariesByStudentId(1L)).thenReturn(List.of());
+        when(studentRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(studentService.getClassesOfStudent(1L).isEmpty());
+    }
+
+    @Test
+    void getClassesOfStudent_NotFound_ThrowsException() {
+        when(classesRepository.findSummariesByStudentId(1L)).thenReturn(List.of());
+        when(studentRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> studentService.getClassesOfStudent(1L));
+    }
 }
@@ -1,18 +1,28 @@
 package com.classmanagementsystem.classmanagement.service;
 
+import com.classmanagementsystem.classmanagement.concurrency.BatchLoader;
+import com.classmanagementsystem.classmanagement.concurrency.RequestCoalescer;
+import com.classmanagementsystem.classmanagement.dto.BatchGetResult;
+import com.classmanagementsystem.classmanagement.dto.CursorPage;
 import com.classmanagementsystem.classmanagement.dto.TeacherDTO;
 import com.classmanagementsystem.classmanagement.entity.Teacher;
+import com.classmanagementsystem.classmanagement.exception.BadRequestException;
 import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
+import com.classmanagementsystem.classmanagement.index.SearchIndex;
 import com.classmanagementsystem.classmanagement.mapper.TeacherMapper;
 import com.classmanagementsystem.classmanagement.repository.TeacherRepository;
 import com.classmanagementsystem.classmanagement.serviceinterface.TeacherServiceInterface;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +39,15 @@ public class TeacherServiceTest {
     @Mock
     private TeacherMapper teacherMapper;
 
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry());
+
+    @Spy
+    private BatchLoader batchLoader = new BatchLoader(Duration.ZERO, 100, new SimpleMeterRegistry());
+
     @InjectMocks
     private TeacherService teacherService;
 
@@ -54,25 +73,41 @@ public class TeacherServiceTest {
         verify(teacherRepository, times(1)).save(teacher);
         verify(teacherMapper, times(1)).toEntity(teacherDTO);
         verify(teacherMapper, times(1)).toDTO(teacher);
+        verify(searchIndex, times(1)).teacherSaved(teacher);
     }
 
     @Test
-    void getAllTeachers_ReturnsListOfTeachers() {
-        List<Teacher> teachers = Arrays.asList(teacher, new Teacher(2L, "Ms. Jones", "Physics"));
-        List<TeacherDTO> teacherDTOs = Arrays.asList(teacherDTO, new TeacherDTO(2L, "Ms. Jones", "Physics"));
+    void getTeachersPage_ClampsLimitToMaximum() {
+        when(teacherRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(CursorPage.MAX_LIMIT + 1)))
+                .thenReturn(Arrays.asList(teacher));
+        when(teacherMapper.toDTO(teacher)).thenReturn(teacherDTO);
 
-        when(teacherRepository.findAll()).thenReturn(teachers);
+        CursorPage<TeacherDTO> page = teacherService.getTeachersPage(null, 10_000);
+
+        assertEquals(CursorPage.MAX_LIMIT, page.getLimit());
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getTeachersByIds_ReturnsRequestedOrderAndMissingIds() {
+        Teacher other = new Teacher(2L, "Jane Smith", "Physics");
+        when(teacherRepository.findAllById(List.of(2L, 1L, 99L))).thenReturn(Arrays.asList(teacher, other));
         when(teacherMapper.toDTO(any(Teacher.class))).thenAnswer(invocation -> {
             Teacher t = invocation.getArgument(0);
             return new TeacherDTO(t.getId(), t.getName(), t.getSubject());
         });
 
-        List<TeacherDTO> result = teacherService.getAllTeachers();
+        BatchGetResult<TeacherDTO> result = teacherService.getTeachersByIds(List.of(2L, 1L, 99L));
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(teacherRepository, times(1)).findAll();
-        verify(teacherMapper, times(2)).toDTO(any(Teacher.class));
+        assertEquals(List.of(2L, 1L), result.getItems().stream().map(TeacherDTO::getId).toList());
+        assertEquals(List.of(99L), result.getMissingIds());
+    }
+
+    @Test
+    void getTeachersByIds_EmptyList_ThrowsBadRequest() {
+        assertThrows(BadRequestException.class, () -> teacherService.getTeachersByIds(List.of()));
+        verify(teacherRepository, never()).findAllById(any());
     }
 
     @Test
@@ -86,6 +121,7 @@ public class TeacherServiceTest {
         assertEquals(teacherDTO.getId(), foundTeacher.getId());
         verify(teacherRepository, times(1)).findById(1L);
         verify(teacherMapper, times(1)).toDTO(teacher);
+        verify(requestCoalescer, times(1)).execute(eq("teacher"), eq(1L), any());
     }
 
     @Test
@@ -97,6 +133,16 @@ public class TeacherServiceTest {
         verify(teacherMapper, never()).toDTO(any(Teacher.class));
     }
 
+    @Test
+    void getTeacherETag_ReadsOnlyTheVersion() {
+        when(teacherRepository.findVersionById(1L)).thenReturn(Optional.of(2L));
+        when(teacherRepository.findVersionById(2L)).thenReturn(Optional.empty());
+
+        assertEquals("2", teacherService.getTeacherETag(1L));
+        assertThrows(ResourceNotFoundException.class, () -> teacherService.getTeacherETag(2L));
+        verify(teacherRepository, never()).findById(any());
+    }
+
     @Test
     void updateTeacher_FoundAndUpdated() {
         TeacherDTO updatedTeacherDTO = new TeacherDTO(1L, "Mr. Smithers", "Chemistry");
@@ -114,6 +160,7 @@ public class TeacherServiceTest {
         verify(teacherRepository, times(1)).findById(1L);
         verify(teacherRepository, times(1)).save(any(Teacher.class));
         verify(teacherMapper, times(1)).toDTO(updatedTeacherEntity);
+        verify(searchIndex, times(1)).teacherSaved(updatedTeacherEntity);
     }
 
     @Test
@@ -136,6 +183,7 @@ public class TeacherServiceTest {
 
         verify(teacherRepository, times(1)).findById(1L);
         verify(teacherRepository, times(1)).delete(teacher);
+        verify(searchIndex, times(1)).teacherRemoved(1L);
     }
 
     @Test
@@ -5,21 +5,23 @@ import com.classmanagementsystem.classmanagement.dto.RoleDTO;
 import com.classmanagementsystem.classmanagement.dto.UserDTO;
 import com.classmanagementsystem.classmanagement.entity.Role;
 import com.classmanagementsystem.classmanagement.entity.User;
+import com.classmanagementsystem.classmanagement.exception.BadRequestException;
 import com.classmanagementsystem.classmanagement.exception.ResourceNotFoundException;
 import com.classmanagementsystem.classmanagement.mapper.UserMapper;
 import com.classmanagementsystem.classmanagement.repository.RoleRepository;
 import com.classmanagementsystem.classmanagement.repository.UserRepository;
+import com.classmanagementsystem.classmanagement.security.CachingAuthenticationProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -41,6 +43,9 @@ public class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private CachingAuthenticationProvider authenticationProvider;
+
     @InjectMocks
     private UserService userService;
 
@@ -159,6 +164,7 @@ public class UserServiceTest {
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).save(any(User.class));
         verify(userMapper, times(1)).toDTO(updatedUserEntity);
+        verify(authenticationProvider, times(1)).evictUser(1L);
     }
 
     @Test
@@ -181,6 +187,7 @@ public class UserServiceTest {
 
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).delete(user);
+        verify(authenticationProvider, times(1)).evictUser(1L);
     }
 
     @Test
@@ -190,24 +197,12 @@ public class UserServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> userService.deleteUser(1L));
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, never()).delete(any(User.class));
+        verify(authenticationProvider, never()).evictUser(anyLong());
     }
 
     @Test
-    void getAllUsers_ReturnsListOfUsers() {
-        List<User> users = Arrays.asList(user, new User(2L, "Jane Smith", "janesmith", "jane.smith@example.com", "encodedpassword2", new HashSet<>(Arrays.asList(roleUser))));
-        List<UserDTO> userDTOs = Arrays.asList(userDTO, new UserDTO(2L, "Jane Smith", "janesmith", "jane.smith@example.com", new HashSet<>(Arrays.asList(roleUserDTO))));
-
-        when(userRepository.findAll()).thenReturn(users);
-        when(userMapper.toDTO(any(User.class))).thenAnswer(invocation -> {
-            User u = invocation.getArgument(0);
-            return new UserDTO(u.getId(), u.getName(), u.getUsername(), u.getEmail(), new HashSet<>(Arrays.asList(roleUserDTO)));
-        });
-
-        List<UserDTO> result = userService.getAllUsers();
-
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(userRepository, times(1)).findAll();
-        verify(userMapper, times(2)).toDTO(any(User.class));
+    void getUsersPage_NonPositiveLimit_ThrowsException() {
+        assertThrows(BadRequestException.class, () -> userService.getUsersPage(null, 0));
+        verify(userRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
     }
 }